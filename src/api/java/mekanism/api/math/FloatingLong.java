@@ -207,6 +207,18 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
         return this;
     }
 
+    /**
+     * Internal helper for {@link FloatingLongAccumulator} to reuse a mutable {@link FloatingLong} rather than creating a new one each time it is set.
+     *
+     * @param toSet The {@link FloatingLong} to copy the value of.
+     *
+     * @implNote Must only be called on mutable {@link FloatingLong}s.
+     */
+    void setFrom(FloatingLong toSet) {
+        this.value = toSet.value;
+        this.decimal = toSet.decimal;
+    }
+
     /**
      * Internal helper to clamp a decimal to the range [0, {@link #MAX_DECIMAL}].
      *
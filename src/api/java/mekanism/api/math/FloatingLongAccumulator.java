@@ -0,0 +1,186 @@
+package mekanism.api.math;
+
+import mekanism.api.annotations.NothingNullByDefault;
+
+/**
+ * Mutable accumulator for performing a series of operations on {@link FloatingLong}s without creating any intermediary objects. Unlike a mutable {@link FloatingLong},
+ * the value of the accumulator is never handed out, so it is safe to keep reusing the same accumulator without worrying about anything holding onto its value.
+ *
+ * @implNote All operations behave (including clamping and rounding) exactly the same as the corresponding in place operations on {@link FloatingLong}.
+ * @since 10.4.0
+ */
+@NothingNullByDefault
+public final class FloatingLongAccumulator implements Comparable<FloatingLongAccumulator> {
+
+    //Note: As this is always mutable, all the in place operations will modify it rather than returning a new object
+    private final FloatingLong value = FloatingLong.create(0);
+
+    /**
+     * Creates an accumulator with a value of zero.
+     */
+    public FloatingLongAccumulator() {
+    }
+
+    /**
+     * Creates an accumulator with the same value as the given {@link FloatingLong}.
+     *
+     * @param initial The initial value.
+     */
+    public FloatingLongAccumulator(FloatingLong initial) {
+        set(initial);
+    }
+
+    /**
+     * @return the unsigned long representing the whole number value of this accumulator
+     */
+    public long getValue() {
+        return value.getValue();
+    }
+
+    /**
+     * @return the short representing the decimal value of this accumulator
+     */
+    public short getDecimal() {
+        return value.getDecimal();
+    }
+
+    /**
+     * Checks if this accumulator is zero.
+     *
+     * @return {@code true} if this accumulator should be treated as zero, {@code false} otherwise.
+     */
+    public boolean isZero() {
+        return value.isZero();
+    }
+
+    /**
+     * Sets the value of this accumulator to the value of the given {@link FloatingLong}.
+     *
+     * @param toSet The {@link FloatingLong} to copy the value of.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator set(FloatingLong toSet) {
+        value.setFrom(toSet);
+        return this;
+    }
+
+    /**
+     * Sets the value of this accumulator to the value of the given accumulator.
+     *
+     * @param toSet The accumulator to copy the value of.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator set(FloatingLongAccumulator toSet) {
+        return set(toSet.value);
+    }
+
+    /**
+     * Sets the value of this accumulator to zero.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator setZero() {
+        return set(FloatingLong.ZERO);
+    }
+
+    /**
+     * Adds the given {@link FloatingLong} to this accumulator. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @param toAdd The {@link FloatingLong} to add.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator add(FloatingLong toAdd) {
+        value.plusEqual(toAdd);
+        return this;
+    }
+
+    /**
+     * Adds the given accumulator to this accumulator. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @param toAdd The accumulator to add.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator add(FloatingLongAccumulator toAdd) {
+        return add(toAdd.value);
+    }
+
+    /**
+     * Subtracts the given {@link FloatingLong} from this accumulator. This gets clamped at the lower bound of {@link FloatingLong#ZERO} rather than becoming negative.
+     *
+     * @param toSubtract The {@link FloatingLong} to subtract.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator subtract(FloatingLong toSubtract) {
+        value.minusEqual(toSubtract);
+        return this;
+    }
+
+    /**
+     * Subtracts the given accumulator from this accumulator. This gets clamped at the lower bound of {@link FloatingLong#ZERO} rather than becoming negative.
+     *
+     * @param toSubtract The accumulator to subtract.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator subtract(FloatingLongAccumulator toSubtract) {
+        return subtract(toSubtract.value);
+    }
+
+    /**
+     * Divides this accumulator by the given unsigned long primitive. Rounds to the nearest 0.0001
+     *
+     * @param toDivide The value to divide by represented as an unsigned long.
+     *
+     * @return This accumulator.
+     *
+     * @throws ArithmeticException if {@code toDivide} is zero.
+     */
+    public FloatingLongAccumulator divide(long toDivide) {
+        value.divideEquals(toDivide);
+        return this;
+    }
+
+    /**
+     * Compares this accumulator to the given {@link FloatingLong}.
+     *
+     * @param toCompare The {@link FloatingLong} to compare to.
+     *
+     * @return Same as {@link FloatingLong#compareTo(FloatingLong)}.
+     */
+    public int compareTo(FloatingLong toCompare) {
+        return value.compareTo(toCompare);
+    }
+
+    @Override
+    public int compareTo(FloatingLongAccumulator toCompare) {
+        return compareTo(toCompare.value);
+    }
+
+    /**
+     * Checks if this accumulator is equal in value to the given {@link FloatingLong}.
+     *
+     * @param other The {@link FloatingLong} to compare to
+     *
+     * @return {@code true} if this accumulator is equal in value to the given {@link FloatingLong}, {@code false} otherwise.
+     */
+    public boolean valueEquals(FloatingLong other) {
+        return value.equals(other);
+    }
+
+    /**
+     * Creates a new mutable {@link FloatingLong} with the current value of this accumulator.
+     */
+    public FloatingLong toFloatingLong() {
+        return value.copy();
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
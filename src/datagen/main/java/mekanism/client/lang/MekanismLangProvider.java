@@ -792,6 +792,10 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_CHUNK_LOADED, "Loaded chunk (%1$s).");
         add(MekanismLang.COMMAND_CHUNK_UNLOADED, "Unloaded chunk (%1$s).");
         add(MekanismLang.COMMAND_DEBUG, "Toggled debug mode: %1$s.");
+        add(MekanismLang.COMMAND_DEBUG_PATHFINDER_CACHE, "Transporter path cache: %1$s paths across %2$s networks. Hits: %3$s, Misses: %4$s (%5$s hit rate), Evictions: %6$s, Invalidations: %7$s.");
+        add(MekanismLang.COMMAND_DEBUG_PATHFINDER_CACHE_RESET, "Reset transporter path cache statistics.");
+        add(MekanismLang.COMMAND_DEBUG_RECIPE_CACHE, "Unused recipe input cache: %1$s inputs. Hits: %2$s, Misses: %3$s (%4$s hit rate), Evictions: %5$s.");
+        add(MekanismLang.COMMAND_DEBUG_RECIPE_CACHE_RESET, "Reset unused recipe input cache statistics.");
         add(MekanismLang.COMMAND_TEST_RULES, "Enabled keepInventory, and disabled doMobSpawning, doDaylightCycle, doWeatherCycle and mobGriefing!");
         add(MekanismLang.COMMAND_TP, "Teleported to (%1$s) - saved last position on stack.");
         add(MekanismLang.COMMAND_TPOP, "Returned to (%1$s); %2$s positions on stack.");
@@ -30,6 +30,7 @@ import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.integration.computer.annotation.SyntheticComputerMethod;
 import mekanism.common.integration.computer.annotation.WrappingComputerMethod;
 import mekanism.common.inventory.container.sync.dynamic.ContainerSync;
+import mekanism.common.lib.EntityQueryCache;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.lib.multiblock.MultiblockData;
 import mekanism.common.registries.MekanismGases;
@@ -256,7 +257,7 @@ public class FusionReactorMultiblockData extends MultiblockData {
         if (world.getRandom().nextInt() % 20 != 0) {
             return;
         }
-        List<Entity> entitiesToDie = getWorld().getEntitiesOfClass(Entity.class, deathZone);
+        List<Entity> entitiesToDie = EntityQueryCache.getEntitiesOfClass(world, Entity.class, deathZone);
 
         for (Entity entity : entitiesToDie) {
             entity.hurt(entity.damageSources().magic(), 50_000F);
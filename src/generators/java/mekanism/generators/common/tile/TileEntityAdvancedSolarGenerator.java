@@ -9,7 +9,6 @@ import mekanism.common.tile.interfaces.IBoundingBlock;
 import mekanism.generators.common.config.MekanismGeneratorsConfig;
 import mekanism.generators.common.registries.GeneratorsBlocks;
 import net.minecraft.core.BlockPos;
-import net.minecraft.util.Mth;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 
@@ -98,45 +97,22 @@ public class TileEntityAdvancedSolarGenerator extends TileEntitySolarGenerator i
 
     private static class AdvancedSolarCheck extends SolarCheck {
 
-        private final int recheckFrequency;
-        private long lastCheckedSun;
-
         public AdvancedSolarCheck(Level world, BlockPos pos) {
-            super(world, pos);
-            //Recheck between every 10-30 ticks, to not end up checking each position each tick
-            recheckFrequency = Mth.nextInt(world.random, 10, 30);
+            super(world, pos, AdvancedSolarCheck::canSeeSky);
         }
 
-        @Override
-        public void recheckCanSeeSun() {
-            if (!world.dimensionType().hasSkyLight() || world.getSkyDarken() >= 4) {
-                //Inline of most of WorldUtils#canSeeSun so that we can exit early if it is not day or there is no skylight
-                // We start with the basic dimension checks and always run those, as they are simple and quick checks, and
-                // we want to be able to stop quickly when it gets too dark
-                canSeeSun = false;
-                return;
-            }
-            long time = world.getGameTime();
-            if (time < lastCheckedSun + recheckFrequency) {
-                //If we have checked for blocks above the solar panel in the past recheckFrequency
-                // number of ticks, skip checking for now for performance reasons
-                return;
-            }
-            // otherwise, mark that we checked and actually check
-            lastCheckedSun = time;
+        private static boolean canSeeSky(Level world, BlockPos pos) {
             if (world.getFluidState(pos).isEmpty()) {
                 //If the top isn't fluid logged we can just quickly check if the top can see the sun
-                canSeeSun = world.canSeeSky(pos);
-            } else {
-                BlockPos above = pos.above();
-                if (world.canSeeSky(above)) {
-                    //If the spot above can see the sun, check to make sure we can see through the block there
-                    BlockState state = world.getBlockState(above);
-                    canSeeSun = !state.liquid() && state.getLightBlock(world, above) <= 0;
-                } else {
-                    canSeeSun = false;
-                }
+                return world.canSeeSky(pos);
+            }
+            BlockPos above = pos.above();
+            if (world.canSeeSky(above)) {
+                //If the spot above can see the sun, check to make sure we can see through the block there
+                BlockState state = world.getBlockState(above);
+                return !state.liquid() && state.getLightBlock(world, above) <= 0;
             }
+            return false;
         }
     }
 }
\ No newline at end of file
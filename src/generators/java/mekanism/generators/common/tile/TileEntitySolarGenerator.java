@@ -1,5 +1,6 @@
 package mekanism.generators.common.tile;
 
+import java.util.function.BiPredicate;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.IContentsListener;
@@ -16,8 +17,8 @@ import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableBoolean;
 import mekanism.common.inventory.container.sync.SyncableFloatingLong;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
+import mekanism.common.lib.SkyVisibility;
 import mekanism.common.util.MekanismUtils;
-import mekanism.common.util.WorldUtils;
 import mekanism.generators.common.config.MekanismGeneratorsConfig;
 import mekanism.generators.common.registries.GeneratorsBlocks;
 import net.minecraft.core.BlockPos;
@@ -109,7 +110,7 @@ public class TileEntitySolarGenerator extends TileEntityGenerator {
         // brightness function which doesn't take into account the fact that rain can't occur in some biomes.
         //TODO: Galacticraft solar energy multiplier (see TileEntitySolarGenerator 1.12 branch).
         // Also do that for the Solar Neutron Activator and Solar Recharging Unit
-        return WorldUtils.getSunBrightness(world, 1.0F);
+        return SkyVisibility.getSunBrightness(world);
     }
 
     @Override
@@ -138,13 +139,19 @@ public class TileEntitySolarGenerator extends TileEntityGenerator {
 
         private final boolean needsRainCheck;
         private final float peakMultiplier;
+        private final SkyVisibility skyVisibility;
         protected final BlockPos pos;
         protected final Level world;
         protected boolean canSeeSun;
 
         public SolarCheck(Level world, BlockPos pos) {
+            this(world, pos, Level::canSeeSky);
+        }
+
+        protected SolarCheck(Level world, BlockPos pos, BiPredicate<Level, BlockPos> skyCheck) {
             this.world = world;
             this.pos = pos;
+            this.skyVisibility = new SkyVisibility(this.pos, skyCheck);
             Biome b = this.world.getBiomeManager().getBiome(this.pos).value();
             needsRainCheck = b.getPrecipitationAt(this.pos) != Precipitation.NONE;
             // Consider the best temperature to be 0.8; biomes that are higher than that
@@ -161,7 +168,7 @@ public class TileEntitySolarGenerator extends TileEntityGenerator {
         }
 
         public void recheckCanSeeSun() {
-            canSeeSun = WorldUtils.canSeeSun(world, pos);
+            canSeeSun = skyVisibility.canSeeSun(world);
         }
 
         public boolean canSeeSun() {
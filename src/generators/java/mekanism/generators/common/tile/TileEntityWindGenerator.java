@@ -14,6 +14,7 @@ import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableBoolean;
 import mekanism.common.inventory.container.sync.SyncableFloatingLong;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
+import mekanism.common.lib.SkyVisibility;
 import mekanism.common.tile.interfaces.IBoundingBlock;
 import mekanism.common.util.MekanismUtils;
 import mekanism.generators.common.config.MekanismGeneratorsConfig;
@@ -24,6 +25,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class TileEntityWindGenerator extends TileEntityGenerator implements IBoundingBlock {
 
@@ -33,6 +35,8 @@ public class TileEntityWindGenerator extends TileEntityGenerator implements IBou
     private double angle;
     private FloatingLong currentMultiplier = FloatingLong.ZERO;
     private boolean isBlacklistDimension;
+    @Nullable
+    private SkyVisibility skyVisibility;
     @WrappingComputerMethod(wrapper = ComputerIInventorySlotWrapper.class, methodNames = "getEnergyItem")
     private EnergyInventorySlot energySlot;
 
@@ -84,9 +88,12 @@ public class TileEntityWindGenerator extends TileEntityGenerator implements IBou
      **/
     private FloatingLong getMultiplier() {
         if (level != null) {
-            BlockPos top = getBlockPos().above(4);
-            if (level.getFluidState(top).isEmpty() && level.canSeeSky(top)) {
+            if (skyVisibility == null) {
                 //Validate it isn't fluid logged to help try and prevent https://github.com/mekanism/Mekanism/issues/7344
+                skyVisibility = new SkyVisibility(getBlockPos().above(4), (world, top) -> world.getFluidState(top).isEmpty() && world.canSeeSky(top));
+            }
+            if (skyVisibility.canSeeSky(level)) {
+                BlockPos top = getBlockPos().above(4);
                 //Clamp the height limits as the logical bounds of the world
                 int minY = Math.max(MekanismGeneratorsConfig.generators.windGenerationMinY.get(), level.getMinBuildHeight());
                 int maxY = Math.min(MekanismGeneratorsConfig.generators.windGenerationMaxY.get(), level.dimensionType().logicalHeight());
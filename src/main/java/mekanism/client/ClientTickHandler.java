@@ -33,6 +33,7 @@ import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.radiation.RadiationManager.RadiationScale;
 import mekanism.common.network.to_server.PacketModeChange;
 import mekanism.common.network.to_server.PacketPortableTeleporterTeleport;
+import mekanism.common.recipe.CraftingRecipeCache;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.registries.MekanismModules;
 import mekanism.common.util.ChemicalUtil;
@@ -338,6 +339,7 @@ public class ClientTickHandler {
         // empty on our initial connection, and even if it isn't the client has no way to query the recipes and cause the
         // caches to be initialized before the tags are then received as we lazily initialize our recipe caches.
         MekanismRecipeType.clearCache();
+        CraftingRecipeCache.resetClient();
     }
 
     @SubscribeEvent
@@ -8,11 +8,15 @@ import mekanism.client.render.tileentity.RenderSPS;
 import mekanism.client.sound.SoundHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.base.IModModule;
+import mekanism.common.content.qio.QIOGlobalItemLookup;
+import mekanism.common.content.transporter.TransporterUpdateQueue;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.security.SecurityData;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.network.to_server.PacketKey;
+import mekanism.common.recipe.CraftingRecipeCache;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.tile.base.TileUpdateQueue;
 import net.minecraft.client.KeyMapping;
 import net.minecraft.client.Minecraft;
 import net.minecraft.world.entity.player.Player;
@@ -54,11 +58,15 @@ public class MekanismClient {
         Mekanism.playerState.clear(true);
         Mekanism.activeVibrators.clear();
         RadiationManager.get().resetClient();
+        QIOGlobalItemLookup.INSTANCE.resetClient();
+        TileUpdateQueue.resetClient();
+        TransporterUpdateQueue.resetClient();
         SoundHandler.radiationSoundMap.clear();
         RenderSPS.clearBoltRenderers();
         TransmitterNetworkRegistry.getInstance().clearClientNetworks();
         RenderTickHandler.clearQueued();
         MekanismRecipeType.clearCache();
+        CraftingRecipeCache.resetClient();
 
         for (IModModule module : Mekanism.modulesLoaded) {
             module.resetClient();
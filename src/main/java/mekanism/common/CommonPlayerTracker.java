@@ -4,12 +4,15 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.advancements.MekanismCriteriaTriggers;
 import mekanism.common.block.BlockCardboardBox;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.content.qio.QIOGlobalItemLookup;
+import mekanism.common.content.transporter.TransporterUpdateQueue;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.radiation.capability.DefaultRadiationEntity;
 import mekanism.common.network.to_client.PacketPlayerData;
 import mekanism.common.network.to_client.PacketRadiationData;
 import mekanism.common.network.to_client.PacketResetPlayerClient;
 import mekanism.common.network.to_client.PacketSecurityUpdate;
+import mekanism.common.tile.base.TileUpdateQueue;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.ClickEvent;
 import net.minecraft.network.chat.ClickEvent.Action;
@@ -25,6 +28,7 @@ import net.minecraftforge.event.entity.player.PlayerEvent.PlayerChangedDimension
 import net.minecraftforge.event.entity.player.PlayerEvent.PlayerLoggedInEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent.PlayerLoggedOutEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent.RightClickBlock;
+import net.minecraftforge.event.level.ChunkWatchEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 
@@ -54,6 +58,9 @@ public class CommonPlayerTracker {
         Player player = event.getEntity();
         Mekanism.playerState.clearPlayer(player.getUUID(), false);
         Mekanism.playerState.clearPlayerServerSideOnly(player.getUUID());
+        QIOGlobalItemLookup.INSTANCE.clearPlayer(player.getUUID());
+        TileUpdateQueue.clearPlayer(player.getUUID());
+        TransporterUpdateQueue.clearPlayer(player.getUUID());
     }
 
     @SubscribeEvent
@@ -63,6 +70,12 @@ public class CommonPlayerTracker {
         Mekanism.playerState.reapplyServerSideOnly(player);
         player.getCapability(Capabilities.RADIATION_ENTITY).ifPresent(c -> Mekanism.packetHandler().sendTo(PacketRadiationData.createPlayer(c.getRadiation()), player));
         RadiationManager.get().updateClientRadiation(player);
+        TileUpdateQueue.clearPlayer(player.getUUID());
+    }
+
+    @SubscribeEvent
+    public void onChunkUnWatch(ChunkWatchEvent.UnWatch event) {
+        TileUpdateQueue.stopTracking(event.getPlayer().getUUID(), event.getLevel().dimension(), event.getPos());
     }
 
     @SubscribeEvent
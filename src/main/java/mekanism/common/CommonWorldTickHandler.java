@@ -13,12 +13,16 @@ import mekanism.api.security.ISecurityUtils;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
+import mekanism.common.content.transporter.TransporterUpdateQueue;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
+import mekanism.common.lib.EntityQueryCache;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.tile.base.TileUpdateQueue;
 import mekanism.common.util.WorldUtils;
 import mekanism.common.world.GenHandler;
+import net.minecraft.core.SectionPos;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -35,6 +39,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.event.TickEvent.LevelTickEvent;
 import net.minecraftforge.event.TickEvent.Phase;
 import net.minecraftforge.event.TickEvent.ServerTickEvent;
+import net.minecraftforge.event.entity.EntityEvent;
 import net.minecraftforge.event.entity.EntityJoinLevelEvent;
 import net.minecraftforge.event.level.BlockEvent;
 import net.minecraftforge.event.level.ChunkDataEvent;
@@ -100,6 +105,17 @@ public class CommonWorldTickHandler {
         }
     }
 
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void onEntityJoin(EntityJoinLevelEvent event) {
+        //Note: This gets fired for entities that get loaded from disk as well
+        EntityQueryCache.entityEnteredSection(event.getLevel(), SectionPos.asLong(event.getEntity().blockPosition()));
+    }
+
+    @SubscribeEvent
+    public void onEntityEnteringSection(EntityEvent.EnteringSection event) {
+        EntityQueryCache.entityEnteredSection(event.getEntity().level(), event.getPackedNewPos());
+    }
+
     @SubscribeEvent
     public void onBlockBreak(BlockEvent.BreakEvent event) {
         BlockState state = event.getState();
@@ -153,19 +169,27 @@ public class CommonWorldTickHandler {
 
     @SubscribeEvent
     public void chunkUnloadEvent(ChunkEvent.Unload event) {
-        if (event.getLevel() instanceof Level level && !level.isClientSide() && chunkVersions != null) {
-            //When a chunk unloads, free up the memory tracking what version it has
-            chunkVersions.getOrDefault(level.dimension().location(), Object2IntMaps.emptyMap())
-                  .removeInt(event.getChunk().getPos());
+        if (event.getLevel() instanceof Level level) {
+            if (level.isClientSide()) {
+                //When a chunk unloads on the client, free up the memory tracking what the tiles in it were last synced with
+                TileUpdateQueue.unloadClientChunk(level, event.getChunk().getPos());
+            } else if (chunkVersions != null) {
+                //When a chunk unloads, free up the memory tracking what version it has
+                chunkVersions.getOrDefault(level.dimension().location(), Object2IntMaps.emptyMap())
+                      .removeInt(event.getChunk().getPos());
+            }
         }
     }
 
     @SubscribeEvent
     public void worldUnloadEvent(LevelEvent.Unload event) {
         LevelAccessor world = event.getLevel();
-        if (!world.isClientSide() && world instanceof Level level && chunkVersions != null) {
-            //When a world unloads, free up memory tracking the versions of the chunks in it
-            chunkVersions.remove(level.dimension().location());
+        if (!world.isClientSide() && world instanceof Level level) {
+            if (chunkVersions != null) {
+                //When a world unloads, free up memory tracking the versions of the chunks in it
+                chunkVersions.remove(level.dimension().location());
+            }
+            EntityQueryCache.unload(level);
         }
     }
 
@@ -196,11 +220,15 @@ public class CommonWorldTickHandler {
     private void serverTick() {
         FrequencyManager.tick();
         RadiationManager.get().tickServer();
+        //Send any tile and transporter updates last so that they include any changes made while ticking
+        TileUpdateQueue.flush();
+        TransporterUpdateQueue.flush();
     }
 
     private void tickEnd(ServerLevel world) {
         if (!world.isClientSide) {
             RadiationManager.get().tickServerWorld(world);
+            EntityQueryCache.endTick(world);
             if (flushTagAndRecipeCaches) {
                 //Loop all open containers and if it is a portable qio dashboard force refresh the window's recipes
                 for (ServerPlayer player : world.players()) {
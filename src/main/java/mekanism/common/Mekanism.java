@@ -49,13 +49,16 @@ import mekanism.common.content.tank.TankMultiblockData;
 import mekanism.common.content.tank.TankValidator;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterUpdateQueue;
 import mekanism.common.integration.MekanismHooks;
 import mekanism.common.item.block.machine.ItemBlockFluidTank.BasicCauldronInteraction;
 import mekanism.common.item.block.machine.ItemBlockFluidTank.BasicDrainCauldronInteraction;
 import mekanism.common.item.block.machine.ItemBlockFluidTank.FluidTankItemDispenseBehavior;
 import mekanism.common.item.predicate.FullCanteenItemPredicate;
 import mekanism.common.item.predicate.MaxedModuleContainerItemPredicate;
+import mekanism.common.lib.EntityQueryCache;
 import mekanism.common.lib.MekAnnotationScanner;
+import mekanism.common.lib.SkyVisibility;
 import mekanism.common.lib.Version;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.frequency.FrequencyType;
@@ -65,6 +68,7 @@ import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.network.PacketHandler;
 import mekanism.common.network.to_client.PacketTransmitterUpdate;
+import mekanism.common.recipe.CraftingRecipeCache;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.condition.ModVersionLoadedCondition;
 import mekanism.common.registries.MekanismBlocks;
@@ -90,6 +94,7 @@ import mekanism.common.registries.MekanismSlurries;
 import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
 import mekanism.common.tags.MekanismTags;
+import mekanism.common.tile.base.TileUpdateQueue;
 import mekanism.common.tile.component.TileComponentChunkLoader.ChunkValidationCallback;
 import mekanism.common.tile.machine.TileEntityOredictionificator.ODConfigValueInvalidationListener;
 import mekanism.common.world.GenHandler;
@@ -107,6 +112,7 @@ import net.minecraftforge.common.world.ForgeChunkManager;
 import net.minecraftforge.event.AddReloadListenerEvent;
 import net.minecraftforge.event.RegisterCommandsEvent;
 import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.event.TagsUpdatedEvent.UpdateCause;
 import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
@@ -267,6 +273,12 @@ public class Mekanism {
 
     private void onTagsReload(TagsUpdatedEvent event) {
         TagCache.resetTagCaches();
+        //Tags may change what items the ingredients of crafting recipes contain
+        if (event.getUpdateCause() == UpdateCause.CLIENT_PACKET_RECEIVED) {
+            CraftingRecipeCache.resetClient();
+        } else {
+            CraftingRecipeCache.reset();
+        }
     }
 
     private void addReloadListenersLowest(AddReloadListenerEvent event) {
@@ -300,6 +312,11 @@ public class Mekanism {
         PathfinderCache.reset();
         TransmitterNetworkRegistry.reset();
         GenHandler.reset();
+        TileUpdateQueue.reset();
+        TransporterUpdateQueue.reset();
+        CraftingRecipeCache.reset();
+        SkyVisibility.reset();
+        EntityQueryCache.reset();
     }
 
     private void imcQueue(InterModEnqueueEvent event) {
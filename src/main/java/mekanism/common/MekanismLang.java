@@ -140,6 +140,10 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_CHUNK_LOADED("command", "chunk.loaded"),
     COMMAND_CHUNK_UNLOADED("command", "chunk.unloaded"),
     COMMAND_DEBUG("command", "debug"),
+    COMMAND_DEBUG_PATHFINDER_CACHE("command", "debug.pathfinder_cache"),
+    COMMAND_DEBUG_PATHFINDER_CACHE_RESET("command", "debug.pathfinder_cache.reset"),
+    COMMAND_DEBUG_RECIPE_CACHE("command", "debug.recipe_cache"),
+    COMMAND_DEBUG_RECIPE_CACHE_RESET("command", "debug.recipe_cache.reset"),
     COMMAND_TEST_RULES("command", "testrules"),
     COMMAND_TP("command", "tp"),
     COMMAND_TPOP("command", "tpop"),
@@ -41,6 +41,8 @@ public class MekanismPermissions {
     public static final CommandPermissionNode COMMAND_CHUNK_WATCH = nodeSubCommand(COMMAND_CHUNK, "watch");
 
     public static final CommandPermissionNode COMMAND_DEBUG = nodeOpCommand("debug");
+    public static final CommandPermissionNode COMMAND_DEBUG_PATHFINDER_CACHE = nodeSubCommand(COMMAND_DEBUG, "pathfinder_cache");
+    public static final CommandPermissionNode COMMAND_DEBUG_RECIPE_CACHE = nodeSubCommand(COMMAND_DEBUG, "recipe_cache");
     public static final CommandPermissionNode COMMAND_FORCE_RETROGEN = nodeOpCommand("force_retrogen");
 
     public static final CommandPermissionNode COMMAND_RADIATION = nodeOpCommand("radiation");
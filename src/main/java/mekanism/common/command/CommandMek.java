@@ -14,6 +14,9 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.transporter.PathfinderCache.CacheStats;
+import mekanism.common.recipe.lookup.cache.type.UnusedInputCache;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -55,7 +58,38 @@ public class CommandMek {
                       MekanismAPI.debug = !MekanismAPI.debug;
                       ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG.translateColored(EnumColor.GRAY, OnOff.of(MekanismAPI.debug, true)), true);
                       return 0;
-                  });
+                  }).then(Commands.literal("pathfinder_cache")
+                        .requires(MekanismPermissions.COMMAND_DEBUG_PATHFINDER_CACHE)
+                        .executes(ctx -> {
+                            CacheStats stats = PathfinderCache.getStats();
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_PATHFINDER_CACHE.translateColored(EnumColor.GRAY, EnumColor.INDIGO,
+                                  stats.paths(), EnumColor.INDIGO, stats.networks(), EnumColor.INDIGO, stats.hits(), EnumColor.INDIGO, stats.misses(),
+                                  EnumColor.INDIGO, MekanismLang.GENERIC_PERCENT.translate(Math.round(stats.hitRate() * 10_000) / 100F), EnumColor.INDIGO,
+                                  stats.evictions(), EnumColor.INDIGO, stats.invalidations()), false);
+                            return 0;
+                        }).then(Commands.literal("reset")
+                              .executes(ctx -> {
+                                  PathfinderCache.resetStats();
+                                  ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_PATHFINDER_CACHE_RESET.translateColored(EnumColor.GRAY), true);
+                                  return 0;
+                              })
+                        )
+                  ).then(Commands.literal("recipe_cache")
+                        .requires(MekanismPermissions.COMMAND_DEBUG_RECIPE_CACHE)
+                        .executes(ctx -> {
+                            UnusedInputCache.CacheStats stats = UnusedInputCache.getStats();
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_RECIPE_CACHE.translateColored(EnumColor.GRAY, EnumColor.INDIGO,
+                                  stats.entries(), EnumColor.INDIGO, stats.hits(), EnumColor.INDIGO, stats.misses(), EnumColor.INDIGO,
+                                  MekanismLang.GENERIC_PERCENT.translate(Math.round(stats.hitRate() * 10_000) / 100F), EnumColor.INDIGO, stats.evictions()), false);
+                            return 0;
+                        }).then(Commands.literal("reset")
+                              .executes(ctx -> {
+                                  UnusedInputCache.resetStats();
+                                  ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_RECIPE_CACHE_RESET.translateColored(EnumColor.GRAY), true);
+                                  return 0;
+                              })
+                        )
+                  );
         }
     }
 
@@ -55,6 +55,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedDoubleValue resistiveHeaterEfficiency;
     public final CachedDoubleValue superheatingHeatTransfer;
     public final CachedIntValue maxSolarNeutronActivatorRate;
+    public final CachedIntValue transporterPathCacheSize;
     //Auto eject
     public final CachedIntValue fluidAutoEjectRate;
     public final CachedLongValue chemicalAutoEjectRate;
@@ -159,6 +160,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("superheatingHeatTransfer", 16_000_000, 0.1, 1_024_000_000));
         maxSolarNeutronActivatorRate = CachedIntValue.wrap(this, builder.comment("Peak processing rate for the Solar Neutron Activator. Note: It can go higher than this value in some extreme environments.")
               .defineInRange("maxSolarNeutronActivatorRate", 64, 1, 1_024));
+        transporterPathCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of paths that are cached per Logistical Transporter network. When the limit is reached the least recently used paths are discarded. Set to 0 to disable caching paths.")
+              .defineInRange("transporterPathCacheSize", 4_096, 0, Integer.MAX_VALUE));
 
         builder.comment("Dynamic Tank Settings").push(DYNAMIC_TANK);
         int maxVolume = 18 * 18 * 18;
@@ -4,14 +4,13 @@ import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.List;
 import mekanism.api.inventory.IInventorySlot;
-import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.CraftingRecipeCache;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.world.inventory.CraftingContainer;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.CraftingRecipe;
-import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.Nullable;
 
@@ -122,6 +121,6 @@ public class RecipeFormula {
 
     @Nullable
     private static CraftingRecipe getRecipeFromGrid(CraftingContainer inv, Level world) {
-        return MekanismRecipeType.getRecipeFor(RecipeType.CRAFTING, inv, world).orElse(null);
+        return CraftingRecipeCache.getRecipeFor(inv, world).orElse(null);
     }
 }
\ No newline at end of file
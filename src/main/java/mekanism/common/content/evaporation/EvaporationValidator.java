@@ -11,6 +11,7 @@ import mekanism.common.lib.multiblock.CuboidStructureValidator;
 import mekanism.common.lib.multiblock.FormationProtocol;
 import mekanism.common.lib.multiblock.FormationProtocol.CasingType;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
+import mekanism.common.lib.multiblock.FormationProtocol.InteriorChanges;
 import mekanism.common.lib.multiblock.FormationProtocol.StructureRequirement;
 import mekanism.common.lib.multiblock.StructureHelper;
 import mekanism.common.registries.MekanismBlockTypes;
@@ -39,6 +40,12 @@ public class EvaporationValidator extends CuboidStructureValidator<EvaporationMu
         return super.validateFrame(ctx, pos, state, type, needsFrame);
     }
 
+    @Override
+    public boolean loadPrevious(InteriorChanges changes) {
+        //We need to validate the frame to find the controller
+        return false;
+    }
+
     @Override
     protected StructureRequirement getStructureRequirement(BlockPos pos) {
         WallRelative relative = cuboid.getWallRelative(pos);
@@ -57,9 +57,10 @@ public class FilterManager<FILTER extends IFilter<?>> {
         FILTER filter = filters.getOrNull(index);
         if (filter != null) {
             filter.setEnabled(!filter.isEnabled());
-            markForSave.run();
             //Clear the cache of enabled filters as we either need to remove the element from it or add to it
+            //Note: We do this before saving so that the callback sees the new set of enabled filters
             enabledFilters = null;
+            markForSave.run();
         }
     }
 
@@ -75,23 +76,23 @@ public class FilterManager<FILTER extends IFilter<?>> {
 
     private boolean addFilter(FILTER filter, boolean save) {
         boolean result = filters.add(filter);
-        if (save) {
-            markForSave.run();
-        }
         if (enabledFilters != null && filter.isEnabled()) {
             //If enabled filters is already initialized then just add it at the end which is where it should go
             enabledFilters.add(filter);
         }
+        if (save) {
+            markForSave.run();
+        }
         return result;
     }
 
     public boolean removeFilter(FILTER filter) {
         boolean result = filters.remove(filter);
-        markForSave.run();
         if (filter.isEnabled()) {
             //Reset the enabled filter cache if we removed an enabled filter
             enabledFilters = null;
         }
+        markForSave.run();
         return result;
     }
 
@@ -107,12 +108,12 @@ public class FilterManager<FILTER extends IFilter<?>> {
 
     private void editFilter(FILTER currentFilter, FILTER newFilter) {
         if (filters.replace(currentFilter, newFilter)) {
-            //Save the filters
-            markForSave.run();
             if (currentFilter.isEnabled() || newFilter.isEnabled()) {
                 //Reset the enabled filter cache if we actually replaced the existing filter and at least one of the two was/is enabled
                 enabledFilters = null;
             }
+            //Save the filters
+            markForSave.run();
         }
     }
 
@@ -10,13 +10,13 @@ public class SortableFilterManager<FILTER extends IFilter<?>> extends FilterMana
     public SortableFilterManager(Class<? extends FILTER> filterClass, Runnable markForSave) {
         super(filterClass, markForSave);
         this.postSwap = (sourceFilter, targetFilter) -> {
-            //Save the change
-            this.markForSave.run();
             if (sourceFilter.isEnabled() && targetFilter.isEnabled()) {
                 //If both the filters are enabled, then we need to invalidate the enabled filter cache
                 // In other cases we can skip doing so as we know the distance is only one
                 enabledFilters = null;
             }
+            //Save the change
+            this.markForSave.run();
         };
     }
 
@@ -49,12 +49,12 @@ public class SortableFilterManager<FILTER extends IFilter<?>> extends FilterMana
         FILTER sourceFilter = filters.remove(source);
         // and add at the target position
         filters.add(target, sourceFilter);
-        //Save the change
-        this.markForSave.run();
         if (sourceFilter.isEnabled()) {
             //If the moved filter is enabled, then we need to invalidate the enabled filter cache
             // as it is quicker than checking if any of the filters that were jumped over were enabled
             enabledFilters = null;
         }
+        //Save the change
+        this.markForSave.run();
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package mekanism.common.content.matrix;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import mekanism.api.Action;
@@ -21,6 +23,12 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     private final Map<BlockPos, InductionProviderTier> providers = new Object2ObjectOpenHashMap<>();
     private final Map<BlockPos, IEnergyContainer> cells = new Object2ObjectOpenHashMap<>();
+    /**
+     * Cells in the order they get filled. Energy is added starting at the frontier and moving forward, and removed starting at the frontier and moving backwards. This
+     * means the cells before the frontier end up full and the ones after it empty, so that in the common case only the frontier cell needs to be touched.
+     */
+    private final List<IEnergyContainer> orderedCells = new ArrayList<>();
+    private int frontier;
     private final Set<BlockPos> invalidPositions = new ObjectOpenHashSet<>();
 
     //TODO: Eventually we could look into extending FloatingLong to have a "BigInt" styled implementation that is used by the class
@@ -43,7 +51,18 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     public void addCell(BlockPos pos, TileEntityInductionCell cell) {
         //As we already have the two different variables just pass them instead of accessing world to get tile again
         MachineEnergyContainer<TileEntityInductionCell> energyContainer = cell.getEnergyContainer();
-        cells.put(pos, energyContainer);
+        IEnergyContainer previous = cells.put(pos, energyContainer);
+        if (previous == null) {
+            orderedCells.add(energyContainer);
+        } else if (previous != energyContainer) {
+            //If there was already a different cell at the position, replace it in place so that we don't have a stale cell and so the frontier stays the same
+            int index = orderedCells.indexOf(previous);
+            if (index == -1) {
+                orderedCells.add(energyContainer);
+            } else {
+                orderedCells.set(index, energyContainer);
+            }
+        }
         storageCap = storageCap.plusEqual(energyContainer.getMaxEnergy());
         cachedTotal = cachedTotal.plusEqual(energyContainer.getEnergy());
     }
@@ -78,6 +97,8 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         tick();
         //And reset everything
         cells.clear();
+        orderedCells.clear();
+        frontier = 0;
         providers.clear();
         queuedOutput = FloatingLong.ZERO;
         queuedInput = FloatingLong.ZERO;
@@ -91,10 +112,21 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     public void tick() {
         if (!invalidPositions.isEmpty()) {
             for (BlockPos invalidPosition : invalidPositions) {
-                cells.remove(invalidPosition);
+                IEnergyContainer cell = cells.remove(invalidPosition);
+                if (cell != null) {
+                    int index = orderedCells.indexOf(cell);
+                    orderedCells.remove(index);
+                    if (index < frontier) {
+                        //Keep the frontier pointing at the same cell
+                        frontier--;
+                    }
+                }
                 providers.remove(invalidPosition);
             }
             invalidPositions.clear();
+            if (frontier >= orderedCells.size()) {
+                frontier = 0;
+            }
         }
         int compare = queuedInput.compareTo(queuedOutput);
         if (compare < 0) {
@@ -112,7 +144,11 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     private void addEnergy(FloatingLong energy) {
         cachedTotal = cachedTotal.plusEqual(energy);
-        for (IEnergyContainer container : cells.values()) {
+        int size = orderedCells.size();
+        //Start at the frontier and move forward, wrapping around in case any cells before the frontier aren't full, such as right after the matrix formed
+        for (int i = 0; i < size; i++) {
+            int index = (frontier + i) % size;
+            IEnergyContainer container = orderedCells.get(index);
             //Note: inserting into the cell's energy container handles marking the cell for saving if it changes
             FloatingLong remainder = container.insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
             if (remainder.smallerThan(energy)) {
@@ -120,6 +156,7 @@ public class MatrixEnergyContainer implements IEnergyContainer {
                 if (remainder.isZero()) {
                     //Check less than equal rather than just equal in case something went wrong
                     // and break if we don't have any energy left to add
+                    frontier = index;
                     break;
                 }
                 energy = remainder;
@@ -129,7 +166,11 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     private void removeEnergy(FloatingLong energy) {
         cachedTotal = cachedTotal.minusEqual(energy);
-        for (IEnergyContainer container : cells.values()) {
+        int size = orderedCells.size();
+        //Start at the frontier and move backwards, wrapping around in case any cells after the frontier aren't empty, such as right after the matrix formed
+        for (int i = 0; i < size; i++) {
+            int index = Math.floorMod(frontier - i, size);
+            IEnergyContainer container = orderedCells.get(index);
             //Note: extracting from the cell's energy container handles marking the cell for saving if it changes
             FloatingLong extracted = container.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
             if (!extracted.isZero()) {
@@ -137,6 +178,7 @@ public class MatrixEnergyContainer implements IEnergyContainer {
                 if (energy.isZero()) {
                     //Check less than equal rather than just equal in case something went wrong
                     // and break if we don't need to remove any more energy
+                    frontier = index;
                     break;
                 }
             }
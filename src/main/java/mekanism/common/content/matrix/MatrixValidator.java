@@ -1,8 +1,6 @@
 package mekanism.common.content.matrix;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import java.util.ArrayList;
-import java.util.List;
 import mekanism.common.content.blocktype.BlockType;
 import mekanism.common.lib.multiblock.CuboidStructureValidator;
 import mekanism.common.lib.multiblock.FormationProtocol.CasingType;
@@ -19,9 +17,6 @@ import net.minecraft.world.level.chunk.ChunkAccess;
 
 public class MatrixValidator extends CuboidStructureValidator<MatrixMultiblockData> {
 
-    private final List<TileEntityInductionCell> cells = new ArrayList<>();
-    private final List<TileEntityInductionProvider> providers = new ArrayList<>();
-
     @Override
     protected CasingType getCasingType(BlockState state) {
         Block block = state.getBlock();
@@ -43,11 +38,7 @@ public class MatrixValidator extends CuboidStructureValidator<MatrixMultiblockDa
               MekanismBlockTypes.ADVANCED_INDUCTION_PROVIDER, MekanismBlockTypes.ELITE_INDUCTION_PROVIDER, MekanismBlockTypes.ULTIMATE_INDUCTION_PROVIDER)) {
             //Compare blocks against the type before bothering to look up the tile
             BlockEntity tile = WorldUtils.getTileEntity(world, chunkMap, pos);
-            if (tile instanceof TileEntityInductionCell cell) {
-                cells.add(cell);
-                return true;
-            } else if (tile instanceof TileEntityInductionProvider provider) {
-                providers.add(provider);
+            if (tile instanceof TileEntityInductionCell || tile instanceof TileEntityInductionProvider) {
                 return true;
             }
             //Else something went wrong
@@ -57,8 +48,16 @@ public class MatrixValidator extends CuboidStructureValidator<MatrixMultiblockDa
 
     @Override
     public FormationResult postcheck(MatrixMultiblockData structure, Long2ObjectMap<ChunkAccess> chunkMap) {
-        cells.forEach(structure::addCell);
-        providers.forEach(structure::addProvider);
+        //Note: We look the cells and providers up from the internal locations rather than while validating them, so that if only some of the inner positions
+        // changed and got revalidated, we still add all the cells and providers
+        for (BlockPos pos : structure.internalLocations) {
+            BlockEntity tile = WorldUtils.getTileEntity(world, chunkMap, pos);
+            if (tile instanceof TileEntityInductionCell cell) {
+                structure.addCell(cell);
+            } else if (tile instanceof TileEntityInductionProvider provider) {
+                structure.addProvider(provider);
+            }
+        }
         return FormationResult.SUCCESS;
     }
 }
\ No newline at end of file
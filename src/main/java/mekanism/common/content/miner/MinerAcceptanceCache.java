@@ -0,0 +1,91 @@
+package mekanism.common.content.miner;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tags.MekanismTags;
+import mekanism.common.tile.machine.TileEntityDigitalMiner;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.world.level.block.BedBlock;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.DoorBlock;
+import net.minecraft.world.level.block.DoublePlantBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BedPart;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+/**
+ * Keeps track of which block states a Digital Miner should mine based on its filters and inverse mode. This is kept between searches and only gets invalidated when
+ * the miner's filters, inverse mode, or tags change, so that searching the same area again does not have to evaluate the filters again.
+ *
+ * @implNote This is accessed from the search threads, so the backing map is replaced rather than cleared when invalidated to ensure that a search that is still
+ * running can't put stale values into the new map.
+ */
+public class MinerAcceptanceCache {
+
+    private final TileEntityDigitalMiner tile;
+    private volatile Map<BlockState, Boolean> acceptedStates = new ConcurrentHashMap<>();
+
+    public MinerAcceptanceCache(TileEntityDigitalMiner tile) {
+        this.tile = tile;
+    }
+
+    /**
+     * Checks if the miner should mine the given state, ignoring any checks that depend on the position of the state.
+     */
+    public boolean isAccepted(BlockState state) {
+        Map<BlockState, Boolean> acceptedStates = this.acceptedStates;
+        Boolean accepted = acceptedStates.get(state);
+        if (accepted == null) {
+            accepted = calculateAccepted(state);
+            acceptedStates.put(state, accepted);
+        }
+        return accepted;
+    }
+
+    /**
+     * Checks the palette of the given section to see if it may contain any states that the miner should mine.
+     *
+     * @return {@code false} if the section definitely does not contain any states the miner should mine.
+     */
+    public boolean mayContainAccepted(LevelChunkSection section) {
+        return section.maybeHas(this::isAccepted);
+    }
+
+    public void invalidate() {
+        acceptedStates = new ConcurrentHashMap<>();
+    }
+
+    private boolean calculateAccepted(BlockState state) {
+        if (state.isAir() || state.is(MekanismBlocks.BOUNDING_BLOCK.getBlock())) {
+            //Skip air, and also skip any bounding blocks
+            return false;
+        } else if (state.is(MekanismTags.Blocks.MINER_BLACKLIST) || shouldSkipState(state)) {
+            //Skip blacklisted blocks, and special cased block states
+            return false;
+        }
+        Block block = state.getBlock();
+        if (MekanismUtils.isLiquidBlock(block) || tile.isReplaceTarget(block.asItem())) {
+            //Skip liquids, and never accept replace targets
+            return false;
+        }
+        //Ensure that the inverse mode is the opposite of the filter match
+        return tile.getInverse() != tile.getFilterManager().anyEnabledMatch(filter -> filter.canFilter(state));
+    }
+
+    /**
+     * Special cased vanilla blocks that only have one state actually have the drop and the other one just causes it to break. This includes things like two tall flowers,
+     * beds, and doors. If a data pack modifies the loot table so that the "secondary" block also provides drops those will then be handled by the fallback we have for
+     * collecting any drops that happen from breaking the block.
+     */
+    private static boolean shouldSkipState(BlockState state) {
+        if (state.getBlock() instanceof BedBlock) {
+            return state.getValue(BlockStateProperties.BED_PART) == BedPart.FOOT;
+        } else if (state.getBlock() instanceof DoorBlock || state.getBlock() instanceof DoublePlantBlock) {
+            return state.getValue(BlockStateProperties.DOUBLE_BLOCK_HALF) == DoubleBlockHalf.UPPER;
+        }
+        return false;
+    }
+}
@@ -1,116 +1,191 @@
 package mekanism.common.content.miner;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
-import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
 import java.util.BitSet;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
-import mekanism.common.tags.MekanismTags;
-import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
-import mekanism.common.util.MekanismUtils;
-import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.util.Mth;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.PathNavigationRegion;
-import net.minecraft.world.level.block.BedBlock;
-import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.DoorBlock;
-import net.minecraft.world.level.block.DoublePlantBlock;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.properties.BedPart;
-import net.minecraft.world.level.block.state.properties.BlockStateProperties;
-import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.NotNull;
 
-public class ThreadMinerSearch extends Thread {
+public class ThreadMinerSearch {
+
+    //Shared pool for all miners, so that when a lot of miners start searching at once (such as after a restart) we don't end up with a thread per miner
+    // all trying to scan their entire area at the same time
+    private static final ExecutorService SEARCH_EXECUTOR = Executors.newFixedThreadPool(Mth.clamp(Runtime.getRuntime().availableProcessors() / 2, 1, 4),
+          new ThreadFactory() {
+              private final AtomicInteger threadCount = new AtomicInteger();
+
+              @Override
+              public Thread newThread(@NotNull Runnable runnable) {
+                  Thread thread = new Thread(runnable, "Digital Miner Search #" + threadCount.incrementAndGet());
+                  thread.setDaemon(true);
+                  return thread;
+              }
+          });
 
     private final TileEntityDigitalMiner tile;
-    private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+    //Chunks that have finished being searched but have not been passed to the miner yet
+    private final Queue<ChunkResult> results = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger remainingChunks = new AtomicInteger();
+    private final MinerAcceptanceCache acceptanceCache;
     private PathNavigationRegion chunkCache;
-    public State state = State.IDLE;
-    public int found = 0;
+    private volatile boolean cancelled;
+    public volatile State state = State.IDLE;
 
-    public ThreadMinerSearch(TileEntityDigitalMiner tile) {
+    public ThreadMinerSearch(TileEntityDigitalMiner tile, MinerAcceptanceCache acceptanceCache) {
         this.tile = tile;
+        this.acceptanceCache = acceptanceCache;
     }
 
     public void setChunkCache(PathNavigationRegion cache) {
         this.chunkCache = cache;
     }
 
-    @Override
-    public void run() {
+    /**
+     * Starts searching the miner's area. Each chunk is searched as a separate task on the shared search pool, and the blocks to mine in each chunk are passed to the
+     * miner by {@link #collectResults()} as soon as the chunk has been searched.
+     */
+    public void start() {
         state = State.SEARCHING;
         if (!tile.getInverse() && !tile.getFilterManager().hasEnabledFilters()) {
             state = State.FINISHED;
             return;
         }
-        Reference2BooleanMap<Block> acceptedItems = new Reference2BooleanOpenHashMap<>();
-        BlockPos pos = tile.getStartingPos();
+        BlockPos startingPos = tile.getStartingPos();
+        int diameter = tile.getDiameter();
+        int minChunkX = SectionPos.blockToSectionCoord(startingPos.getX());
+        int maxChunkX = SectionPos.blockToSectionCoord(startingPos.getX() + diameter - 1);
+        int minChunkZ = SectionPos.blockToSectionCoord(startingPos.getZ());
+        int maxChunkZ = SectionPos.blockToSectionCoord(startingPos.getZ() + diameter - 1);
+        remainingChunks.set((maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1));
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                int x = chunkX;
+                int z = chunkZ;
+                SEARCH_EXECUTOR.execute(() -> {
+                    try {
+                        searchChunk(x, z);
+                    } catch (Exception e) {
+                        Mekanism.logger.error("Error searching chunk [{}, {}] for Digital Miner at {}.", x, z, tile.getBlockPos(), e);
+                    } finally {
+                        //Note: We decrement after adding our result so that once the count reaches zero all results are guaranteed to be in the queue
+                        remainingChunks.decrementAndGet();
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Stops any chunks that have not been searched yet from being searched.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Passes any chunks that have finished being searched to the miner, and marks the search as finished once all chunks have been searched.
+     *
+     * @apiNote Only call this from the server thread.
+     */
+    public void collectResults() {
+        if (state == State.SEARCHING) {
+            //Check if we are done before draining the results, so that we can't miss any results that get added while draining
+            boolean finished = remainingChunks.get() == 0;
+            ChunkResult result;
+            while ((result = results.poll()) != null) {
+                tile.addSearchResult(result.chunk(), result.toMine());
+            }
+            if (finished) {
+                state = State.FINISHED;
+                chunkCache = null;
+            }
+        }
+    }
+
+    private void searchChunk(int chunkX, int chunkZ) {
+        if (cancelled || tile.isRemoved()) {
+            //Make sure the miner is still valid and something hasn't gone wrong
+            return;
+        }
+        if (!(chunkCache.getChunkForCollisions(chunkX, chunkZ) instanceof ChunkAccess chunk)) {
+            return;
+        }
+        BlockPos startingPos = tile.getStartingPos();
         int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
+        int minY = tile.getMinY();
+        int maxY = tile.getMaxY();
+        //Bounds of the miner's area within this chunk
+        int minX = Math.max(startingPos.getX(), SectionPos.sectionToBlockCoord(chunkX));
+        int maxX = Math.min(startingPos.getX() + diameter - 1, SectionPos.sectionToBlockCoord(chunkX, 15));
+        int minZ = Math.max(startingPos.getZ(), SectionPos.sectionToBlockCoord(chunkZ));
+        int maxZ = Math.min(startingPos.getZ() + diameter - 1, SectionPos.sectionToBlockCoord(chunkZ, 15));
         BlockPos minerPos = tile.getBlockPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
+        BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+        BitSet toMine = null;
+        for (int sectionY = SectionPos.blockToSectionCoord(minY), maxSectionY = SectionPos.blockToSectionCoord(maxY); sectionY <= maxSectionY; sectionY++) {
+            if (cancelled || tile.isRemoved()) {
                 return;
             }
-            BlockPos testPos = TileEntityDigitalMiner.getOffsetForIndex(pos, diameter, i);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
+            int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+            if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) {
                 continue;
             }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || shouldSkipState(state) || state.getDestroySpeed(chunkCache, testPos) < 0) {
-                //Skip air, blacklisted blocks, special cased block states, and unbreakable blocks
+            LevelChunkSection section = chunk.getSection(sectionIndex);
+            if (section.hasOnlyAir() || !acceptanceCache.mayContainAccepted(section)) {
+                //Skip sections that only contain air or don't have any states we would mine in their palette, as there is nothing for us to find in them
                 continue;
             }
-            info = state.getBlock();
-            if (MekanismUtils.isLiquidBlock(info)) {//Skip liquids
-                continue;
-            }
-            boolean accepted = acceptedItems.computeIfAbsent(info, (Block block) -> {
-                if (tile.isReplaceTarget(block.asItem())) {
-                    //If it is a replace target just mark it as never being accepted
-                    return false;
+            int sectionMinY = Math.max(minY, SectionPos.sectionToBlockCoord(sectionY));
+            int sectionMaxY = Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY, 15));
+            for (int y = sectionMinY; y <= sectionMaxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        BlockState state = section.getBlockState(SectionPos.sectionRelative(x), SectionPos.sectionRelative(y), SectionPos.sectionRelative(z));
+                        testPos.set(x, y, z);
+                        if (isAccepted(state, testPos, minerPos)) {
+                            if (toMine == null) {
+                                toMine = new BitSet();
+                            }
+                            int dx = x - startingPos.getX();
+                            int dy = y - startingPos.getY();
+                            int dz = z - startingPos.getZ();
+                            //Inverse of TileEntityDigitalMiner#getOffsetForIndex
+                            toMine.set((dy * diameter + dz) * diameter + dx);
+                        }
+                    }
                 }
-                //Ensure that the inverse mode is the opposite of the filter match
-                return tile.getInverse() != tile.getFilterManager().anyEnabledMatch(filter -> filter.canFilter(state));
-            });
-            if (accepted) {
-                long chunk = ChunkPos.asLong(testPos);
-                oresToMine.computeIfAbsent(chunk, k -> new BitSet()).set(i);
-                found++;
             }
         }
-
-        state = State.FINISHED;
-        chunkCache = null;
-        if (tile.searcher == this) {
-            //Only update search if we are still valid and didn't get replaced due to a reset call
-            tile.updateFromSearch(oresToMine, found);
+        if (toMine != null) {
+            results.add(new ChunkResult(ChunkPos.asLong(chunkX, chunkZ), toMine));
         }
     }
 
-    /**
-     * Special cased vanilla blocks that only have one state actually have the drop and the other one just causes it to break. This includes things like two tall flowers,
-     * beds, and doors. If a data pack modifies the loot table so that the "secondary" block also provides drops those will then be handled by the fallback we have for
-     * collecting any drops that happen from breaking the block.
-     */
-    private boolean shouldSkipState(BlockState state) {
-        if (state.getBlock() instanceof BedBlock) {
-            return state.getValue(BlockStateProperties.BED_PART) == BedPart.FOOT;
-        } else if (state.getBlock() instanceof DoorBlock || state.getBlock() instanceof DoublePlantBlock) {
-            return state.getValue(BlockStateProperties.DOUBLE_BLOCK_HALF) == DoubleBlockHalf.UPPER;
-        }
-        return false;
+    private boolean isAccepted(BlockState state, BlockPos testPos, BlockPos minerPos) {
+        //Skip the miner itself, and any unbreakable blocks
+        return acceptanceCache.isAccepted(state) && !minerPos.equals(testPos) && state.getDestroySpeed(chunkCache, testPos) >= 0;
+    }
+
+    private record ChunkResult(long chunk, BitSet toMine) {
     }
 
     @NothingNullByDefault
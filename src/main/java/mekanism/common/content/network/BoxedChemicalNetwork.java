@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.chemical.Chemical;
@@ -31,12 +32,13 @@ import mekanism.common.capabilities.chemical.dynamic.IPigmentTracker;
 import mekanism.common.capabilities.chemical.dynamic.ISlurryTracker;
 import mekanism.common.capabilities.chemical.variable.VariableCapacityChemicalTankBuilder;
 import mekanism.common.content.network.distribution.BoxedChemicalTransmitterSaveTarget;
-import mekanism.common.content.network.distribution.ChemicalHandlerTarget;
+import mekanism.common.content.network.distribution.ChemicalHandlerDistributor;
 import mekanism.common.content.network.transmitter.BoxedPressurizedTube;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.MekanismUtils;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import net.minecraftforge.common.MinecraftForge;
@@ -58,6 +60,9 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
     @NotNull
     public BoxedChemical lastChemical = BoxedChemical.EMPTY;
     private long prevTransferAmount;
+    private final ChemicalHandlerDistributor<?, ?> distributor = new ChemicalHandlerDistributor<>();
+    @Nullable
+    private Chemical<?> lastEmitted;
 
     public BoxedChemicalNetwork(UUID networkID) {
         super(networkID);
@@ -246,19 +251,37 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
 
     private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long tickEmit(@NotNull STACK stack) {
         ChemicalType chemicalType = ChemicalType.getTypeFor(stack);
-        Collection<Map<Direction, LazyOptional<BoxedChemicalHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack, acceptorValues.size() * 2);
-        for (Map<Direction, LazyOptional<BoxedChemicalHandler>> acceptors : acceptorValues) {
-            for (LazyOptional<BoxedChemicalHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
-                    if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
-                        target.addHandler(handler);
+        ChemicalHandlerDistributor<CHEMICAL, STACK> distributor = getDistributor();
+        if (stack.getType() != lastEmitted) {
+            //Acceptors that were full of a different chemical may be able to accept this one
+            acceptorCache.clearSaturated();
+            lastEmitted = stack.getType();
+        }
+        acceptorCache.startEmitting();
+        for (Map.Entry<BlockPos, Map<Direction, LazyOptional<BoxedChemicalHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
+            BlockPos acceptorPos = entry.getKey();
+            if (acceptorCache.shouldPoll(acceptorPos)) {
+                boolean canInsert = false;
+                for (LazyOptional<BoxedChemicalHandler> lazyAcceptor : entry.getValue().values()) {
+                    Optional<BoxedChemicalHandler> resolved = lazyAcceptor.resolve();
+                    if (resolved.isPresent()) {
+                        IChemicalHandler<CHEMICAL, STACK> handler = resolved.get().getHandlerFor(chemicalType);
+                        if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
+                            distributor.addHandler(handler);
+                            canInsert = true;
+                        }
                     }
-                });
+                }
+                acceptorCache.updateSaturation(acceptorPos, canInsert);
             }
         }
-        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        return distributor.distribute(stack.getAmount(), stack);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> ChemicalHandlerDistributor<CHEMICAL, STACK> getDistributor() {
+        //Note: This is safe as the distributor doesn't keep track of any handlers between distributions
+        return (ChemicalHandlerDistributor<CHEMICAL, STACK>) distributor;
     }
 
     @Override
@@ -278,6 +301,11 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         }
     }
 
+    @Override
+    protected boolean isBufferIdle() {
+        return isTankEmpty() && prevTransferAmount == 0;
+    }
+
     @Override
     protected float computeContentScale() {
         float scale = (float) (getCurrentTankWithFallback().getStored() / (double) getCapacity());
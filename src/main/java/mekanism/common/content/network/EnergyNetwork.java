@@ -4,6 +4,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
@@ -20,6 +22,7 @@ import mekanism.common.content.network.transmitter.UniversalCable;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.text.EnergyDisplay;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import net.minecraftforge.common.MinecraftForge;
@@ -128,15 +131,21 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     }
 
     private FloatingLong tickEmit(FloatingLong energyToSend) {
-        Collection<Map<Direction, LazyOptional<IStrictEnergyHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        EnergyAcceptorTarget target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
-        for (Map<Direction, LazyOptional<IStrictEnergyHandler>> acceptors : acceptorValues) {
-            for (LazyOptional<IStrictEnergyHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
-                        target.addHandler(acceptor);
+        Set<Map.Entry<BlockPos, Map<Direction, LazyOptional<IStrictEnergyHandler>>>> acceptorEntries = acceptorCache.getAcceptorEntrySet();
+        EnergyAcceptorTarget target = new EnergyAcceptorTarget(acceptorEntries.size() * 2);
+        acceptorCache.startEmitting();
+        for (Map.Entry<BlockPos, Map<Direction, LazyOptional<IStrictEnergyHandler>>> entry : acceptorEntries) {
+            BlockPos acceptorPos = entry.getKey();
+            if (acceptorCache.shouldPoll(acceptorPos)) {
+                boolean canAccept = false;
+                for (LazyOptional<IStrictEnergyHandler> lazyAcceptor : entry.getValue().values()) {
+                    Optional<IStrictEnergyHandler> resolved = lazyAcceptor.resolve();
+                    if (resolved.isPresent() && resolved.get().insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
+                        target.addHandler(resolved.get());
+                        canAccept = true;
                     }
-                });
+                }
+                acceptorCache.updateSaturation(acceptorPos, canAccept);
             }
         }
         return EmitUtils.sendToAcceptors(target, energyToSend.copy());
@@ -162,6 +171,11 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         }
     }
 
+    @Override
+    protected boolean isBufferIdle() {
+        return energyContainer.isEmpty() && prevTransferAmount.isZero();
+    }
+
     @Override
     protected float computeContentScale() {
         float scale = (float) energyContainer.getEnergy().divideToLevel(energyContainer.getMaxEnergy());
@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.fluid.IExtendedFluidTank;
@@ -13,13 +14,14 @@ import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.fluid.BasicFluidTank;
 import mekanism.common.capabilities.fluid.VariableCapacityFluidTank;
-import mekanism.common.content.network.distribution.FluidHandlerTarget;
+import mekanism.common.content.network.distribution.FluidHandlerDistributor;
 import mekanism.common.content.network.distribution.FluidTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.FluidUtils;
 import mekanism.common.util.MekanismUtils;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import net.minecraftforge.common.MinecraftForge;
@@ -36,6 +38,9 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     @NotNull
     public FluidStack lastFluid = FluidStack.EMPTY;
     private int prevTransferAmount;
+    private final FluidHandlerDistributor distributor = new FluidHandlerDistributor();
+    @NotNull
+    private FluidStack lastEmitted = FluidStack.EMPTY;
 
     //TODO: Make fluid storage support storing as longs?
     private int intCapacity;
@@ -150,18 +155,28 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     }
 
     private int tickEmit(@NotNull FluidStack fluidToSend) {
-        Collection<Map<Direction, LazyOptional<IFluidHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend, acceptorValues.size() * 2);
-        for (Map<Direction, LazyOptional<IFluidHandler>> acceptors : acceptorValues) {
-            for (LazyOptional<IFluidHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                        target.addHandler(acceptor);
+        if (!fluidToSend.isFluidEqual(lastEmitted)) {
+            //Acceptors that were full of a different fluid may be able to accept this one
+            acceptorCache.clearSaturated();
+            lastEmitted = new FluidStack(fluidToSend, 1);
+        }
+        acceptorCache.startEmitting();
+        for (Map.Entry<BlockPos, Map<Direction, LazyOptional<IFluidHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
+            BlockPos acceptorPos = entry.getKey();
+            if (acceptorCache.shouldPoll(acceptorPos)) {
+                boolean canFill = false;
+                for (LazyOptional<IFluidHandler> lazyAcceptor : entry.getValue().values()) {
+                    Optional<IFluidHandler> resolved = lazyAcceptor.resolve();
+                    if (resolved.isPresent() && FluidUtils.canFill(resolved.get(), fluidToSend)) {
+                        distributor.addHandler(resolved.get());
+                        canFill = true;
                     }
-                });
+                }
+                acceptorCache.updateSaturation(acceptorPos, canFill);
             }
         }
-        return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+        //Note: We can't send more than the amount of the stack, so we can safely cast this back to an int
+        return (int) distributor.distribute(fluidToSend.getAmount(), fluidToSend);
     }
 
     @Override
@@ -179,6 +194,11 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
         }
     }
 
+    @Override
+    protected boolean isBufferIdle() {
+        return fluidTank.isEmpty() && prevTransferAmount == 0;
+    }
+
     @Override
     protected float computeContentScale() {
         float scale = fluidTank.getFluidAmount() / (float) fluidTank.getCapacity();
@@ -1,6 +1,8 @@
 package mekanism.common.content.network;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -12,6 +14,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.LongConsumer;
 import mekanism.api.Coord4D;
 import mekanism.api.RelativeSide;
 import mekanism.api.text.EnumColor;
@@ -40,6 +43,7 @@ import org.jetbrains.annotations.Nullable;
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
     private final Map<BlockPos, LogisticalTransporterBase> positionedTransmitters = new Object2ObjectOpenHashMap<>();
+    private final LongSet changedAcceptors = new LongOpenHashSet();
 
     public InventoryNetwork(UUID networkID) {
         super(networkID);
@@ -105,6 +109,12 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return toReturn;
     }
 
+    @Override
+    public boolean needsTicking() {
+        //Transporters handle moving their stacks themselves, so there is nothing for the network to do each tick
+        return false;
+    }
+
     @Nullable
     public LogisticalTransporterBase getTransmitter(BlockPos pos) {
         return positionedTransmitters.get(pos);
@@ -171,17 +181,32 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return super.adoptTransmittersAndAcceptorsFrom(net);
     }
 
+    @Override
+    public void acceptorChanged(LogisticalTransporterBase transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        changedAcceptors.add(transmitter.getTilePos().relative(side).asLong());
+    }
+
     @Override
     public void commit() {
+        boolean addedTransmitters = !transmittersToAdd.isEmpty();
         super.commit();
-        // update the cache when the network has been changed (called when transmitters are added)
-        PathfinderCache.onChanged(this);
+        if (addedTransmitters) {
+            // update the cache when the network has been changed (called when transmitters are added), as the new transmitters
+            // may allow for shorter paths anywhere in the network
+            PathfinderCache.onChanged(this);
+        } else if (!changedAcceptors.isEmpty()) {
+            // otherwise, only invalidate the paths that end at acceptors that changed
+            changedAcceptors.forEach((LongConsumer) pos -> PathfinderCache.onChanged(this, pos));
+        }
+        changedAcceptors.clear();
     }
 
     @Override
     public void deregister() {
         super.deregister();
         positionedTransmitters.clear();
+        changedAcceptors.clear();
         // update the cache when the network has been removed (when transmitters are removed)
         PathfinderCache.onChanged(this);
     }
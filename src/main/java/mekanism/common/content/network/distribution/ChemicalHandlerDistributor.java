@@ -0,0 +1,23 @@
+package mekanism.common.content.network.distribution;
+
+import mekanism.api.Action;
+import mekanism.api.chemical.Chemical;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.chemical.IChemicalHandler;
+import mekanism.common.lib.distribution.LongDistributor;
+import mekanism.common.util.ChemicalUtil;
+import org.jetbrains.annotations.NotNull;
+
+public class ChemicalHandlerDistributor<CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>>
+      extends LongDistributor<IChemicalHandler<CHEMICAL, STACK>, @NotNull STACK> {
+
+    @Override
+    protected long simulate(IChemicalHandler<CHEMICAL, STACK> handler, @NotNull STACK stack) {
+        return stack.getAmount() - handler.insertChemical(stack, Action.SIMULATE).getAmount();
+    }
+
+    @Override
+    protected long accept(IChemicalHandler<CHEMICAL, STACK> handler, @NotNull STACK stack, long amount) {
+        return amount - handler.insertChemical(ChemicalUtil.copyWithAmount(stack, amount), Action.EXECUTE).getAmount();
+    }
+}
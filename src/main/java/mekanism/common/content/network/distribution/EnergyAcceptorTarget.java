@@ -4,6 +4,7 @@ import java.util.Collection;
 import mekanism.api.Action;
 import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.math.FloatingLong;
+import mekanism.common.lib.distribution.FloatingLongSplitInfo;
 import mekanism.common.lib.distribution.SplitInfo;
 import mekanism.common.lib.distribution.Target;
 
@@ -22,7 +23,13 @@ public class EnergyAcceptorTarget extends Target<IStrictEnergyHandler, FloatingL
 
     @Override
     protected void acceptAmount(IStrictEnergyHandler handler, SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
-        splitInfo.send(amount.subtract(handler.insertEnergy(amount, Action.EXECUTE)));
+        FloatingLong remainder = handler.insertEnergy(amount, Action.EXECUTE);
+        if (splitInfo instanceof FloatingLongSplitInfo info) {
+            //Avoid creating an object for the amount that was accepted
+            info.sendRemainder(amount, remainder);
+        } else {
+            splitInfo.send(amount.subtract(remainder));
+        }
     }
 
     @Override
@@ -0,0 +1,21 @@
+package mekanism.common.content.network.distribution;
+
+import mekanism.common.lib.distribution.LongDistributor;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
+import org.jetbrains.annotations.NotNull;
+
+public class FluidHandlerDistributor extends LongDistributor<IFluidHandler, @NotNull FluidStack> {
+
+    @Override
+    protected long simulate(IFluidHandler handler, @NotNull FluidStack fluidStack) {
+        return handler.fill(fluidStack, FluidAction.SIMULATE);
+    }
+
+    @Override
+    protected long accept(IFluidHandler handler, @NotNull FluidStack fluidStack, long amount) {
+        //Note: This will never be more than the amount of the stack so can safely be cast to an int
+        return handler.fill(new FluidStack(fluidStack, (int) amount), FluidAction.EXECUTE);
+    }
+}
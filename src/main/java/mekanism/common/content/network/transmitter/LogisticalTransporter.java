@@ -45,7 +45,7 @@ public class LogisticalTransporter extends LogisticalTransporterBase implements
     @Override
     public InteractionResult onConfigure(Player player, Direction side) {
         TransporterUtils.incrementColor(this);
-        PathfinderCache.onChanged(getTransmitterNetwork());
+        PathfinderCache.onChanged(getTransmitterNetwork(), getTilePos().asLong());
         getTransmitterTile().sendUpdatePacket();
         EnumColor color = getColor();
         player.sendSystemMessage(MekanismUtils.logFormat(MekanismLang.TOGGLE_COLOR.translate(color == null ? MekanismLang.NONE : color.getColoredName())));
@@ -11,17 +11,16 @@ import java.util.function.Function;
 import java.util.function.IntConsumer;
 import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
-import mekanism.common.Mekanism;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.content.transporter.TransporterStack.Path;
+import mekanism.common.content.transporter.TransporterUpdateQueue;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.ConnectionType;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.lib.transmitter.acceptor.AcceptorCache;
-import mekanism.common.network.to_client.PacketTransporterUpdate;
 import mekanism.common.tier.TransporterTier;
 import mekanism.common.tile.TileEntityLogisticalSorter;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
@@ -241,10 +240,15 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                 }
 
                 if (!deletes.isEmpty() || !needsSync.isEmpty()) {
-                    //Notify clients, so that we send the information before we start clearing our lists
-                    Mekanism.packetHandler().sendToAllTracking(new PacketTransporterUpdate(this, needsSync, deletes), getTransmitterTile());
+                    //Queue the changes to be sent to clients at the end of the tick, before we start clearing our lists
+                    for (Int2ObjectMap.Entry<TransporterStack> entry : needsSync.int2ObjectEntrySet()) {
+                        TransporterUpdateQueue.queueStack(this, entry.getIntKey(), entry.getValue());
+                    }
                     // Now remove any entries from transit that have been deleted
-                    deletes.forEach((IntConsumer) (this::deleteStack));
+                    deletes.forEach((IntConsumer) stackId -> {
+                        TransporterUpdateQueue.queueDelete(this, stackId);
+                        deleteStack(stackId);
+                    });
 
                     // Clear the pending sync packets
                     needsSync.clear();
@@ -423,7 +427,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
             if (doEmit) {
                 int stackId = nextId++;
                 addStack(stackId, stack);
-                Mekanism.packetHandler().sendToAllTracking(new PacketTransporterUpdate(this, stackId, stack), getTransmitterTile());
+                TransporterUpdateQueue.queueStack(this, stackId, stack);
                 getTransmitterTile().markForSave();
             }
         }
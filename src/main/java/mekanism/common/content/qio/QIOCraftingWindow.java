@@ -6,16 +6,21 @@ import it.unimi.dsi.fastutil.ints.Int2IntArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.IntFunction;
 import java.util.function.UnaryOperator;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.IContentsListener;
 import mekanism.api.inventory.IInventorySlot;
+import mekanism.api.math.MathUtils;
 import mekanism.common.Mekanism;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.SelectedWindowData;
@@ -27,7 +32,7 @@ import mekanism.common.inventory.slot.BasicInventorySlot;
 import mekanism.common.inventory.slot.CraftingWindowInventorySlot;
 import mekanism.common.inventory.slot.CraftingWindowOutputInventorySlot;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.CraftingRecipeCache;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.RegistryAccess;
@@ -42,7 +47,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.CraftingRecipe;
 import net.minecraft.world.item.crafting.Ingredient;
-import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.GameRules;
 import net.minecraft.world.level.Level;
 import net.minecraftforge.common.ForgeHooks;
@@ -161,7 +165,7 @@ public class QIOCraftingWindow implements IContentsListener {
                 outputSlot.setStack(assembleRecipe(lastRecipe, world.registryAccess()));
             } else {
                 //If we don't have a cached recipe, or our cached recipe doesn't match our inventory contents, lookup the recipe
-                CraftingRecipe recipe = MekanismRecipeType.getRecipeFor(RecipeType.CRAFTING, craftingInventory, world).orElse(null);
+                CraftingRecipe recipe = CraftingRecipeCache.getRecipeFor(craftingInventory, world).orElse(null);
                 if (recipe != lastRecipe) {
                     if (recipe == null) {
                         //If there is no found recipe, clear the output, but don't update our last recipe
@@ -282,6 +286,24 @@ public class QIOCraftingWindow implements IContentsListener {
         MekanismUtils.logMismatchedStackSize(inputSlot.shrinkStack(1, Action.EXECUTE), 1);
     }
 
+    /**
+     * Tries to remove the item in an input slot that only has a single item from the QIO frequency, and if there isn't any in the frequency uses the one in the slot.
+     *
+     * @return {@code true} if the item in the slot had to be used.
+     */
+    private boolean useSingleInput(Level world, QIOFrequency frequency, CraftingWindowInventorySlot inputSlot, int index) {
+        ItemStack current = inputSlot.getStack();
+        ItemStack removed = frequency.removeItem(current, 1);
+        if (removed.isEmpty()) {
+            //If we were not able to remove any from the frequency, remove it from the crafting grid
+            useInput(inputSlot);
+            // see if we have another valid input stored in the frequency and replace it with it if we do
+            replacementHelper.findEquivalentItem(world, frequency, inputSlot, index, current);
+            return true;
+        }
+        return false;
+    }
+
     /**
      * @apiNote Only call from the server
      */
@@ -348,6 +370,11 @@ public class QIOCraftingWindow implements IContentsListener {
         boolean recheckOutput = false;
         LastInsertTarget lastInsertTarget = new LastInsertTarget();
         NonNullList<ItemStack> remaining = lastRecipe.getRemainingItems(craftingInventory);
+        if (frequency != null && canBulkCraft(world, remaining)) {
+            crafted = bulkCraft(player, world, frequency, hotBarSlots, mainInventorySlots, lastInsertTarget, result, maxToCraft);
+            shiftCraftingFinished(player, world, itemCraftedStat, crafted);
+            return;
+        }
         for (; crafted < maxToCraft; crafted += amountPerCraft) {
             if (recheckOutput && changedWhileCrafting) {
                 //If our inputs changed while crafting, and we are supposed to recheck the output,
@@ -424,19 +451,11 @@ public class QIOCraftingWindow implements IContentsListener {
                         // and mark that we should recheck our output as the recipe output may have changed, or we may
                         // no longer have enough inputs to craft an output
                         recheckOutput = true;
-                    } else {
-                        //Otherwise, try and remove the stack from the QIO frequency
-                        ItemStack current = inputSlot.getStack();
-                        ItemStack removed = frequency.removeItem(current, 1);
-                        if (removed.isEmpty()) {
-                            //If we were not able to remove any from the frequency, remove it from the crafting grid
-                            useInput(inputSlot);
-                            // see if we have another valid input stored in the frequency and replace it with it if we do
-                            replacementHelper.findEquivalentItem(world, frequency, inputSlot, index, current);
-                            // and stop crafting even if we have another valid item for that spot, as we want to give the player a chance
-                            // to notice the item it will be using changed in case it got replaced with some very expensive alternative
-                            stopCrafting = true;
-                        }
+                    } else if (useSingleInput(world, frequency, inputSlot, index)) {
+                        //Otherwise, try and remove the stack from the QIO frequency, and if we had to use the one in the slot instead, stop crafting
+                        // even if we have another valid item for that spot, as we want to give the player a chance to notice the item it will be
+                        // using changed in case it got replaced with some very expensive alternative
+                        stopCrafting = true;
                     }
                 } else if (!remainder.isEmpty()) {
                     //Otherwise, if the slot is empty, but we don't have an empty remaining stack because of a mod doing odd things
@@ -454,6 +473,97 @@ public class QIOCraftingWindow implements IContentsListener {
                 break;
             }
         }
+        shiftCraftingFinished(player, world, itemCraftedStat, crafted);
+    }
+
+    /**
+     * Checks if we can perform all the crafts at once instead of one at a time. This is the case when every input is a single item that gets refilled from the
+     * frequency, and the recipe doesn't leave anything behind, as then every craft has the exact same inputs.
+     */
+    private boolean canBulkCraft(Level world, NonNullList<ItemStack> remaining) {
+        boolean hasInput = false;
+        for (int index = 0; index < remaining.size(); index++) {
+            int count = inputSlots[index].getCount();
+            if (count > 1 || !remaining.get(index).isEmpty()) {
+                return false;
+            } else if (count == 1) {
+                hasInput = true;
+            }
+        }
+        if (!hasInput) {
+            return false;
+        }
+        for (int index = 0; index < inputSlots.length; index++) {
+            //Make sure the empty remainder isn't still valid for the recipe in any of the slots, as otherwise that slot gets used instead of refilled from the frequency
+            if (!inputSlots[index].isEmpty() && remainderHelper.isStackStillValid(world, ItemStack.EMPTY, index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Performs as many crafts as we can at once, extracting the inputs from the frequency in bulk. Only call this if {@link #canBulkCraft(Level, NonNullList)} is
+     * {@code true}.
+     *
+     * @return The amount crafted.
+     */
+    private int bulkCraft(Player player, Level world, QIOFrequency frequency, List<HotBarSlot> hotBarSlots, List<MainInventorySlot> mainInventorySlots,
+          LastInsertTarget lastInsertTarget, ItemStack result, int maxToCraft) {
+        int amountPerCraft = result.getCount();
+        //Group the input slots by the item in them, so that we only need to extract each item from the frequency once
+        Map<HashedItem, IntList> slotsByType = new Object2ObjectLinkedOpenHashMap<>();
+        for (int index = 0; index < inputSlots.length; index++) {
+            CraftingWindowInventorySlot inputSlot = inputSlots[index];
+            if (!inputSlot.isEmpty()) {
+                slotsByType.computeIfAbsent(HashedItem.raw(inputSlot.getStack()), type -> new IntArrayList()).add(index);
+            }
+        }
+        int toCraft = (maxToCraft + amountPerCraft - 1) / amountPerCraft;
+        for (Map.Entry<HashedItem, IntList> entry : slotsByType.entrySet()) {
+            //When the frequency runs out of an item, the craft uses the item in the slot instead, and then we stop crafting, so we are able to do one more
+            // craft than the frequency has enough of the item for
+            long crafts = frequency.getStored(entry.getKey()) / entry.getValue().size() + 1;
+            toCraft = MathUtils.clampToInt(Math.min(toCraft, crafts));
+        }
+        //Only do as many crafts as there is room for in the player's inventory
+        ItemStack output = result.copyWithCount(toCraft * amountPerCraft);
+        ItemStack simulatedRemainder = MekanismContainer.insertItemCheckAll(hotBarSlots, output, windowData, Action.SIMULATE);
+        simulatedRemainder = MekanismContainer.insertItemCheckAll(mainInventorySlots, simulatedRemainder, windowData, Action.SIMULATE);
+        toCraft = Math.min(toCraft, (output.getCount() - simulatedRemainder.getCount()) / amountPerCraft);
+        if (toCraft == 0) {
+            return 0;
+        }
+        //Extract the inputs for all but the last craft from the frequency, which we know there is enough of
+        if (toCraft > 1) {
+            for (Map.Entry<HashedItem, IntList> entry : slotsByType.entrySet()) {
+                long toExtract = (toCraft - 1L) * entry.getValue().size();
+                MekanismUtils.logMismatchedStackSize(frequency.massExtract(entry.getKey().getInternalStack(), toExtract, Action.EXECUTE), toExtract);
+            }
+        }
+        //Perform the last craft one slot at a time, as the frequency may run out of some inputs, and we need to replace them in the same order we would have
+        // when crafting one at a time
+        for (int index = 0; index < inputSlots.length; index++) {
+            CraftingWindowInventorySlot inputSlot = inputSlots[index];
+            if (!inputSlot.isEmpty()) {
+                if (remainderHelper.isStackStillValid(world, ItemStack.EMPTY, index)) {
+                    //If the empty remainder is still valid for the recipe in that slot, remove the stack from the slot the same as when crafting one at a time
+                    useInput(inputSlot);
+                } else {
+                    useSingleInput(world, frequency, inputSlot, index);
+                }
+            }
+        }
+        output.setCount(toCraft * amountPerCraft);
+        output = lastInsertTarget.tryInserting(hotBarSlots, mainInventorySlots, windowData, output);
+        if (!output.isEmpty()) {
+            //If something went horribly wrong adding it to the player's inventory given we calculated there was room, then just drop the items as the player
+            player.drop(output, false);
+        }
+        return toCraft * amountPerCraft;
+    }
+
+    private void shiftCraftingFinished(Player player, Level world, Stat<Item> itemCraftedStat, int crafted) {
         if (crafted > 0) {
             //Add to the stat how much of the item the player crafted that the player crafted the item
             player.awardStat(itemCraftedStat, crafted);
@@ -512,14 +622,7 @@ public class QIOCraftingWindow implements IContentsListener {
                     useInput(inputSlot);
                 } else {
                     //Otherwise, try and remove the stack from the QIO frequency
-                    ItemStack current = inputSlot.getStack();
-                    ItemStack removed = frequency.removeItem(current, 1);
-                    if (removed.isEmpty()) {
-                        //If we were not able to remove any from the frequency, remove it from the crafting grid
-                        useInput(inputSlot);
-                        // see if we have another valid input stored in the frequency and replace it with it if we do
-                        replacementHelper.findEquivalentItem(world, frequency, inputSlot, index, current);
-                    }
+                    useSingleInput(world, frequency, inputSlot, index);
                 }
             }
             //Note: No special handling needed here for if the remainder is empty
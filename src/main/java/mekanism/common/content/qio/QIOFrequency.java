@@ -2,16 +2,22 @@ package mekanism.common.content.qio;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -31,15 +37,16 @@ import mekanism.common.base.TagCache;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.WildcardMatcher;
-import mekanism.common.lib.collection.BiMultimap;
+import mekanism.common.lib.collection.IntPostingIndex;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.frequency.IColorableFrequency;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.to_client.PacketQIOItemViewerGuiSync;
+import mekanism.common.network.to_client.PacketQIOItemViewerGuiSync.SyncEntries;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
+import net.minecraft.Util;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
@@ -53,15 +60,31 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
     private static final Random rand = new Random();
 
-    private final Map<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
-    private final Map<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
-    private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
+    private final Map<QIODriveKey, QIODriveData> driveMap = new Object2ObjectLinkedOpenHashMap<>();
+    // drives indexed by the slot they use in the containing drive bitmaps, with null for free slots
+    private QIODriveData[] driveSlots = new QIODriveData[0];
+    private int driveSlotLimit;
+    private final Set<IQIODriveHolder> driveHolders = new ObjectOpenHashSet<>();
+
+    //Note: The stored item types are kept in a columnar layout to keep the per type memory overhead low, as frequencies can end up storing
+    // tens of thousands of types. Each type is assigned a dense int id that indexes into the columns below, and into the lookups' posting lists
+    private final Object2IntMap<HashedItem> typeIds = Util.make(new Object2IntOpenHashMap<>(), map -> map.defaultReturnValue(-1));
+    private final IntArrayList freeTypeIds = new IntArrayList();
+    private int typeIdLimit;
+    private HashedItem[] types = new HashedItem[0];
+    private long[] counts = new long[0];
+    // the counts that players viewing the items were last sent
+    private long[] syncedCounts = new long[0];
+    // bitmap of the drive slots containing each type, with driveWords longs per type
+    private long[] containingDrives = new long[0];
+    private int driveWords = 1;
+
     // efficiently keep track of the tags utilized by the items stored
-    private final BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
+    private final IntPostingIndex<String> tagLookupMap = new IntPostingIndex<>();
     // efficiently keep track of the modids utilized by the items stored
-    private final Map<String, Set<HashedItem>> modIDLookupMap = new HashMap<>();
+    private final IntPostingIndex<String> modIDLookupMap = new IntPostingIndex<>();
     // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored
-    private final Map<Item, Set<HashedItem>> fuzzyItemLookupMap = new IdentityHashMap<>();
+    private final IntPostingIndex<Item> fuzzyItemLookupMap = new IntPostingIndex<>();
     // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
     private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
     private final Set<String> failedWildcardTags = new HashSet<>();
@@ -69,8 +92,10 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
     private final Set<String> failedWildcardModIDs = new HashSet<>();
 
-    private final Set<UUID> updatedItems = new HashSet<>();
-    private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
+    private final Set<UUID> updatedItems = new ObjectOpenHashSet<>();
+    //Count that players viewing the items were last sent for any types that have been removed since the last update
+    private final Object2LongMap<UUID> removedSyncedCounts = new Object2LongOpenHashMap<>();
+    private final Set<ServerPlayer> playersViewingItems = new ObjectOpenHashSet<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
@@ -79,7 +104,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
-    // only used on client side, for server side we can just look at itemDataMap.size()
+    // only used on client side, for server side we can just look at typeIds.size()
     private int clientTypes;
 
     private EnumColor color = EnumColor.INDIGO;
@@ -96,22 +121,28 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     /**
-     * Dangerous function. Don't mess with this map.
-     *
-     * @return core item data map, tracking item types + their respective counts and containing drives
+     * @return view of the item types stored in this frequency
      */
-    public Map<HashedItem, QIOItemTypeData> getItemDataMap() {
-        return itemDataMap;
+    public Set<HashedItem> getStoredTypes() {
+        return Collections.unmodifiableSet(typeIds.keySet());
     }
 
     @Override
     public void forAllStored(ObjLongConsumer<ItemStack> consumer) {
-        itemDataMap.forEach((type, data) -> consumer.accept(type.createStack(1), data.getCount()));
+        for (int id = 0; id < typeIdLimit; id++) {
+            if (types[id] != null) {
+                consumer.accept(types[id].createStack(1), counts[id]);
+            }
+        }
     }
 
     @Override
     public void forAllHashedStored(ObjLongConsumer<IHashedItem> consumer) {
-        itemDataMap.forEach((type, data) -> consumer.accept(type, data.getCount()));
+        for (int id = 0; id < typeIdLimit; id++) {
+            if (types[id] != null) {
+                consumer.accept(types[id], counts[id]);
+            }
+        }
     }
 
     @Override
@@ -120,91 +151,184 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             return 0;
         }
         HashedItem type = action.execute() ? HashedItem.create(stack) : HashedItem.raw(stack);
+        int id = typeIds.getInt(type);
         // these checks are extremely important; they prevent us from wasting CPU searching for a place to put the new items,
-        // and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
-        if (totalCount == totalCountCapacity || (!itemDataMap.containsKey(type) && itemDataMap.size() == totalTypeCapacity)) {
+        // and they also prevent us from adding a ghost type to the item data if nothing is inserted
+        if (totalCount == totalCountCapacity || (id == -1 && typeIds.size() == totalTypeCapacity)) {
             return 0;
         }
         // at this point we're guaranteed at least part of the input stack will be inserted
-        QIOItemTypeData data;
-        if (action.execute()) {
-            data = itemDataMap.computeIfAbsent(type, this::createTypeDataForAbsent);
-        } else {
-            //If we are simulating, look it up
-            data = itemDataMap.get(type);
-            if (data == null) {
-                // if it doesn't already have that type, fall back to a new item type data that doesn't actually get added
-                data = new QIOItemTypeData(type);
-            }
+        if (id == -1 && action.execute()) {
+            id = createTypeDataForAbsent(type);
         }
-        return amount - data.add(amount, action);
+        //Note: If we are simulating and don't already have the type, the id stays -1, and we simulate adding a new type without actually adding it
+        return amount - add(type, id, amount, action);
     }
 
     public ItemStack addItem(ItemStack stack) {
         if (stack.isEmpty()) {
             return ItemStack.EMPTY;
         } else if (totalCount == totalCountCapacity) {
-            //This check and the pre-check in the computeIfAbsent are extremely important; they prevent us from wasting CPU searching for
-            // a place to put the new items, and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
+            //This check and the type capacity check are extremely important; they prevent us from wasting CPU searching for
+            // a place to put the new items, and they also prevent us from adding a ghost type to the item data if nothing is inserted
             return stack;
         }
         HashedItem type = HashedItem.create(stack);
-        QIOItemTypeData data = itemDataMap.computeIfAbsent(type, t -> {
-            if (itemDataMap.size() == totalTypeCapacity) {
-                //Don't add any ghost item types if there is no room for new ones. We do this inside of a computeIfAbsent
-                // so that we don't have to check if the map contains it twice
-                return null;
+        int id = typeIds.getInt(type);
+        if (id == -1) {
+            if (typeIds.size() == totalTypeCapacity) {
+                //Don't add any ghost item types if there is no room for new ones
+                return stack;
             }
             // at this point we're guaranteed at least part of the input stack will be inserted
-            return createTypeDataForAbsent(t);
-        });
-        if (data == null) {
-            //Failed to insert
-            return stack;
+            id = createTypeDataForAbsent(type);
         }
-        return type.createStack(MathUtils.clampToInt(data.add(stack.getCount(), Action.EXECUTE)));
+        return type.createStack(MathUtils.clampToInt(add(type, id, stack.getCount(), Action.EXECUTE)));
     }
 
-    private QIOItemTypeData createTypeDataForAbsent(HashedItem type) {
-        ItemStack stack = type.getInternalStack();
-        List<String> tags = TagCache.getItemTags(stack);
-        if (!tags.isEmpty()) {
-            boolean hasAllKeys = tagLookupMap.hasAllKeys(tags);
-            if (tagLookupMap.putAll(tags, type) && !hasAllKeys) {
-                //If we added any tag item combinations, and we didn't have all the keys for tags this item has,
-                // then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
-                tagWildcardCache.clear();
-                failedWildcardTags.clear();
+    /**
+     * @return the id of the newly tracked type
+     */
+    private int createTypeDataForAbsent(HashedItem type) {
+        int id;
+        if (freeTypeIds.isEmpty()) {
+            id = typeIdLimit++;
+            if (id == types.length) {
+                int capacity = Math.max(16, 2 * types.length);
+                types = Arrays.copyOf(types, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+                syncedCounts = Arrays.copyOf(syncedCounts, capacity);
+                containingDrives = Arrays.copyOf(containingDrives, capacity * driveWords);
             }
+        } else {
+            id = freeTypeIds.popInt();
         }
-        modIDLookupMap.computeIfAbsent(MekanismUtils.getModId(stack), modID -> {
+        types[id] = type;
+        typeIds.put(type, id);
+        ItemStack stack = type.getInternalStack();
+        if (tagLookupMap.addAll(id, TagCache.getItemTags(stack))) {
+            //If we added any tags that we didn't have any items for,
+            // then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
+            tagWildcardCache.clear();
+            failedWildcardTags.clear();
+        }
+        if (modIDLookupMap.add(id, MekanismUtils.getModId(stack))) {
             //If we added a new modid to the lookup map we also want to make sure that we clear our modid wildcard cache
             // as our new modid may be valid for some of our wildcards
             modIDWildcardCache.clear();
             failedWildcardModIDs.clear();
-            return new HashSet<>();
-        }).add(type);
+        }
         //Fuzzy item lookup has no wildcard cache related to it
-        fuzzyItemLookupMap.computeIfAbsent(stack.getItem(), item -> new HashSet<>()).add(type);
+        fuzzyItemLookupMap.add(id, stack.getItem());
         //Ensure we have a matching uuid for this item
-        QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type);
-        return new QIOItemTypeData(type);
+        UUID uuid = QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type);
+        //If the type was removed and added back since we last synced to the viewing players, start from what they were last sent
+        syncedCounts[id] = removedSyncedCounts.removeLong(uuid);
+        return id;
+    }
+
+    /**
+     * @param id The id of the type, or {@code -1} to simulate adding a type that isn't stored yet.
+     *
+     * @return the amount that couldn't be added
+     */
+    private long add(HashedItem type, int id, long amount, Action action) {
+        long toAdd = amount;
+        if (id != -1) {
+            // first we try to add the items to an already-containing drive
+            for (int slot = nextContainingDrive(id, 0); slot != -1 && toAdd > 0; slot = nextContainingDrive(id, slot + 1)) {
+                toAdd = addItemsToDrive(type, id, slot, toAdd, action);
+            }
+        }
+        // next, we add the items to any drive that will take it
+        for (int slot = 0; slot < driveSlotLimit && toAdd > 0; slot++) {
+            if (driveSlots[slot] != null && (id == -1 || !isInDrive(id, slot))) {
+                toAdd = addItemsToDrive(type, id, slot, toAdd, action);
+            }
+        }
+        if (action.execute()) {
+            // update internal/core values
+            counts[id] += amount - toAdd;
+            totalCount += amount - toAdd;
+            setNeedsUpdate(type);
+        }
+        return toAdd;
+    }
+
+    private long addItemsToDrive(HashedItem type, int id, int slot, long toAdd, Action action) {
+        long rejects = driveSlots[slot].add(type, toAdd, action);
+        if (action.execute() && rejects < toAdd) {
+            containingDrives[id * driveWords + (slot >> 6)] |= 1L << slot;
+        }
+        return rejects;
+    }
+
+    private long remove(HashedItem type, int id, long amount, Action action) {
+        long removed = 0;
+        for (int slot = nextContainingDrive(id, 0); slot != -1 && removed < amount; slot = nextContainingDrive(id, slot + 1)) {
+            QIODriveData data = driveSlots[slot];
+            removed += data.remove(type, amount - removed, action);
+            // remove this drive from the containing drives if it doesn't have this item anymore
+            if (action.execute() && data.getStored(type) == 0) {
+                containingDrives[id * driveWords + (slot >> 6)] &= ~(1L << slot);
+            }
+        }
+        if (action.execute()) {
+            counts[id] -= removed;
+            totalCount -= removed;
+            setNeedsUpdate(type);
+        }
+        return removed;
+    }
+
+    private boolean isInDrive(int id, int slot) {
+        return (containingDrives[id * driveWords + (slot >> 6)] & (1L << slot)) != 0;
+    }
+
+    /**
+     * @return the first drive slot at or after the given slot that contains the given type, or {@code -1} if there are none
+     */
+    private int nextContainingDrive(int id, int fromSlot) {
+        int word = fromSlot >> 6;
+        if (word >= driveWords) {
+            return -1;
+        }
+        int base = id * driveWords;
+        long bits = containingDrives[base + word] & (-1L << fromSlot);
+        while (bits == 0) {
+            if (++word == driveWords) {
+                return -1;
+            }
+            bits = containingDrives[base + word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    private boolean hasContainingDrive(int id) {
+        for (int word = id * driveWords, end = word + driveWords; word < end; word++) {
+            if (containingDrives[word] != 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public long massExtract(ItemStack stack, long amount, Action action) {
-        if (amount <= 0 || stack.isEmpty() || itemDataMap.isEmpty()) {
+        if (amount <= 0 || stack.isEmpty() || typeIds.isEmpty()) {
             return 0;
         }
         HashedItem type = HashedItem.raw(stack);
-        QIOItemTypeData data = itemDataMap.get(type);
-        if (data == null) {
+        int id = typeIds.getInt(type);
+        if (id == -1) {
             return 0;
         }
-        long removed = data.remove(amount, action);
+        //Note: We remove using the stored type rather than our raw lookup key, as the key may not be safe to hold a reference to
+        type = types[id];
+        long removed = remove(type, id, amount, action);
         // remove this item type if it's now empty
-        if (action.execute() && data.count == 0) {
-            removeItemData(data.itemType);
+        if (action.execute() && counts[id] == 0) {
+            removeItemData(type);
         }
         return removed;
     }
@@ -221,67 +345,69 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public ItemStack removeByType(@Nullable HashedItem itemType, int amount) {
-        if (itemDataMap.isEmpty() || amount <= 0) {
+        if (typeIds.isEmpty() || amount <= 0) {
             return ItemStack.EMPTY;
         }
 
-        QIOItemTypeData data;
+        int id;
         if (itemType == null) {
-            Map.Entry<HashedItem, QIOItemTypeData> entry = itemDataMap.entrySet().iterator().next();
-            itemType = entry.getKey();
-            data = entry.getValue();
+            id = 0;
+            while (types[id] == null) {
+                id++;
+            }
         } else {
-            data = itemDataMap.get(itemType);
-            if (data == null) {
+            id = typeIds.getInt(itemType);
+            if (id == -1) {
                 return ItemStack.EMPTY;
             }
         }
-
-        ItemStack removed = data.remove(amount);
+        itemType = types[id];
+        int removed = MathUtils.clampToInt(remove(itemType, id, amount, Action.EXECUTE));
         // remove this item type if it's now empty
-        if (data.count == 0) {
-            removeItemData(data.itemType);
+        if (counts[id] == 0) {
+            removeItemData(itemType);
         }
-        return removed;
+        return removed == 0 ? ItemStack.EMPTY : itemType.createStack(removed);
     }
 
     private void removeItemData(HashedItem type) {
-        itemDataMap.remove(type);
-        //Note: We need to copy the tags to a new collection as otherwise when we start removing them from the lookup
-        // they will also get removed from this view
-        Set<String> tags = new HashSet<>(tagLookupMap.getKeys(type));
-        if (tagLookupMap.removeValue(type) && !tagLookupMap.hasAllKeys(tags)) {
+        int id = typeIds.removeInt(type);
+        if (id == -1) {
+            return;
+        }
+        if (syncedCounts[id] != 0 && !playersViewingItems.isEmpty()) {
+            removedSyncedCounts.put(QIOGlobalItemLookup.INSTANCE.getUUIDForType(type), syncedCounts[id]);
+        }
+        types[id] = null;
+        counts[id] = 0;
+        syncedCounts[id] = 0;
+        Arrays.fill(containingDrives, id * driveWords, (id + 1) * driveWords, 0);
+        freeTypeIds.add(id);
+        if (tagLookupMap.remove(id)) {
             //If we completely removed any tags clear our wildcard cache as it may have some wildcards that are
             // matching a tag that is no longer stored
             tagWildcardCache.clear();
             //Note: We don't need to clear the failed wildcard tags as if we are removing tags they still won't have any matches
         }
-        ItemStack stack = type.getInternalStack();
-        String modID = MekanismUtils.getModId(stack);
-        Set<HashedItem> itemsForMod = modIDLookupMap.get(modID);
-        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the items for that mod is now empty, and if they are
-        // remove the modid from the lookup map, and clear our wildcard cache as it may have some wildcards that are
-        // matching a modid that is no longer stored
-        if (itemsForMod != null && itemsForMod.remove(type) && itemsForMod.isEmpty()) {
-            modIDLookupMap.remove(modID);
+        if (modIDLookupMap.remove(id)) {
+            //If the items for that mod are now empty, clear our wildcard cache as it may have some wildcards that are
+            // matching a modid that is no longer stored
             modIDWildcardCache.clear();
             //Note: We don't need to clear the failed wildcard modids as if we are removing tags they still won't have any matches
         }
-        Item item = stack.getItem();
-        Set<HashedItem> itemsByFuzzy = fuzzyItemLookupMap.get(item);
-        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the "fuzzy" items for that item is now empty, and if they are
-        // remove the item completely from the lookup map
-        if (itemsByFuzzy != null && itemsByFuzzy.remove(type) && itemsByFuzzy.isEmpty()) {
-            fuzzyItemLookupMap.remove(item);
-        }
+        fuzzyItemLookupMap.remove(id);
     }
 
-    public Set<HashedItem> getTypesForItem(Item item) {
-        return Collections.unmodifiableSet(fuzzyItemLookupMap.getOrDefault(item, Collections.emptySet()));
+    public List<HashedItem> getTypesForItem(Item item) {
+        IntSet ids = fuzzyItemLookupMap.get(item);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<HashedItem> ret = new ArrayList<>(ids.size());
+        for (IntIterator iter = ids.iterator(); iter.hasNext(); ) {
+            ret.add(types[iter.nextInt()]);
+        }
+        return ret;
     }
 
     public Object2LongMap<HashedItem> getStacksByItem(Item item) {
@@ -289,34 +415,35 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public Object2LongMap<HashedItem> getStacksByTag(String tag) {
-        return getStacksWithCounts(tagLookupMap.getValues(tag));
+        return getStacksWithCounts(tagLookupMap.get(tag));
     }
 
     public Object2LongMap<HashedItem> getStacksByModID(String modID) {
         return getStacksWithCounts(modIDLookupMap.get(modID));
     }
 
-    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable Set<HashedItem> items) {
-        if (items == null || items.isEmpty()) {
+    private Object2LongMap<HashedItem> getStacksWithCounts(IntSet ids) {
+        if (ids.isEmpty()) {
             return Object2LongMaps.emptyMap();
         }
-        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-        for (HashedItem item : items) {
-            ret.put(item, getStored(item));
-        }
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>(ids.size());
+        addStacksWithCounts(ret, ids);
         return ret;
     }
 
+    private void addStacksWithCounts(Object2LongMap<HashedItem> stacks, IntSet ids) {
+        for (IntIterator iter = ids.iterator(); iter.hasNext(); ) {
+            int id = iter.nextInt();
+            stacks.put(types[id], counts[id]);
+        }
+    }
+
     public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
-        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::getAllKeys)) {
+        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::keySet)) {
             Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
             for (String match : tagWildcardCache.get(wildcard)) {
-                for (HashedItem item : tagLookupMap.getValues(match)) {
-                    //If our return map doesn't already have the stored value in it, calculate it.
-                    // The case where it may have the stored value in it is if an item has multiple
-                    // tags that all match the wildcard
-                    ret.computeIfAbsent(item, (HashedItem type) -> getStored(type));
-                }
+                //Note: An item may have multiple tags that all match the wildcard, in which case we just put the same count for it again
+                addStacksWithCounts(ret, tagLookupMap.get(match));
             }
             return ret;
         }
@@ -327,12 +454,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, wildcard, modIDLookupMap::keySet)) {
             Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
             for (String match : modIDWildcardCache.get(wildcard)) {
-                for (HashedItem item : modIDLookupMap.get(match)) {
-                    //Note: Unlike in getStacksByTagWildcard, we don't use computeLongIfAbsent here because
-                    // each stack only has one modid, so while we may have multiple modids that match our
-                    // wildcard, the stacks that correspond to said modids will be unique
-                    ret.put(item, getStored(item));
-                }
+                //Note: Each stack only has one modid, so while we may have multiple modids that match our
+                // wildcard, the stacks that correspond to said modids will be unique
+                addStacksWithCounts(ret, modIDLookupMap.get(match));
             }
             return ret;
         }
@@ -367,12 +491,27 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public void openItemViewer(ServerPlayer player) {
+        //Changes aren't tracked while nobody is viewing the items, so if we are the first viewer we need to start tracking from the current counts.
+        // Otherwise, we send the counts the other viewers were last sent, and then the next update will bring all the viewers up to date
+        boolean resync = playersViewingItems.isEmpty();
         playersViewingItems.add(player);
-        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(itemDataMap.size());
-        for (QIOItemTypeData data : itemDataMap.values()) {
-            map.put(new UUIDAwareHashedItem(data.itemType, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(data.itemType)), data.count);
+        if (resync) {
+            updatedItems.clear();
+            removedSyncedCounts.clear();
+        }
+        SyncEntries entries = SyncEntries.absolute(typeIds.size());
+        for (int id = 0; id < typeIdLimit; id++) {
+            HashedItem type = types[id];
+            if (type != null) {
+                if (resync) {
+                    syncedCounts[id] = counts[id];
+                }
+                if (syncedCounts[id] > 0) {
+                    entries.add(type, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type), syncedCounts[id]);
+                }
+            }
         }
-        Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.batch(map, totalCountCapacity, totalTypeCapacity), player);
+        Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.batch(player, entries, totalCountCapacity, totalTypeCapacity), player);
     }
 
     public void closeItemViewer(ServerPlayer player) {
@@ -402,7 +541,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public int getTotalItemTypes(boolean remote) {
-        return remote ? clientTypes : itemDataMap.size();
+        return remote ? clientTypes : typeIds.size();
     }
 
     public int getTotalItemTypeCapacity() {
@@ -415,8 +554,8 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public long getStored(HashedItem itemType) {
-        QIOItemTypeData data = itemDataMap.get(itemType);
-        return data == null ? 0 : data.count;
+        int id = typeIds.getInt(itemType);
+        return id == -1 ? 0 : counts[id];
     }
 
     public boolean isStoring(HashedItem itemType) {
@@ -440,27 +579,38 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (!updatedItems.isEmpty() || needsUpdate) {
             //Only calculate the packet and the update map if there are actually players viewing this frequency,
             // otherwise we can just skip looking up UUIDs and counts
-            Lazy<PacketQIOItemViewerGuiSync> lazyPacket = Lazy.of(() -> {
-                Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
+            // The entries are only serialized once and then shared between the packets for each player
+            Lazy<SyncEntries> lazyEntries = Lazy.of(() -> {
+                SyncEntries entries = SyncEntries.delta(updatedItems.size());
                 updatedItems.forEach(uuid -> {
                     HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
                     if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
-                        QIOItemTypeData data = itemDataMap.get(type);
-                        map.put(new UUIDAwareHashedItem(type, uuid), data == null ? 0 : data.count);
+                        int id = typeIds.getInt(type);
+                        long delta;
+                        if (id == -1) {
+                            delta = -removedSyncedCounts.getLong(uuid);
+                        } else {
+                            delta = counts[id] - syncedCounts[id];
+                            syncedCounts[id] = counts[id];
+                        }
+                        if (delta != 0) {
+                            entries.add(type, uuid, delta);
+                        }
                     }
                 });
-                return PacketQIOItemViewerGuiSync.update(map, totalCountCapacity, totalTypeCapacity);
+                return entries;
             });
             for (Iterator<ServerPlayer> viewingIterator = playersViewingItems.iterator(); viewingIterator.hasNext(); ) {
                 ServerPlayer player = viewingIterator.next();
                 if (player.containerMenu instanceof QIOItemViewerContainer) {
-                    Mekanism.packetHandler().sendTo(lazyPacket.get(), player);
+                    Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.update(player, lazyEntries.get(), totalCountCapacity, totalTypeCapacity), player);
                 } else {
                     //flush players that somehow didn't send a container close packet
                     viewingIterator.remove();
                 }
             }
             updatedItems.clear();
+            removedSyncedCounts.clear();
             needsUpdate = false;
         }
         // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
@@ -478,7 +628,11 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             //Note: We only need to clear tags here as the modids cannot change just because a reload happened
             tagLookupMap.clear();
             tagWildcardCache.clear();
-            itemDataMap.values().forEach(item -> tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getInternalStack()), item.itemType));
+            for (int id = 0; id < typeIdLimit; id++) {
+                if (types[id] != null) {
+                    tagLookupMap.addAll(id, TagCache.getItemTags(types[id].getInternalStack()));
+                }
+            }
         }
         return superDirty;
     }
@@ -512,7 +666,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     public void onRemove() {
         super.onRemove();
         // copy keys to avoid CME
-        Set<QIODriveKey> keys = new HashSet<>(driveMap.keySet());
+        Set<QIODriveKey> keys = new ObjectOpenHashSet<>(driveMap.keySet());
         keys.forEach(key -> removeDrive(key, false));
         driveMap.clear();
         playersViewingItems.forEach(player -> Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.kill(), player));
@@ -523,7 +677,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         int code = super.getSyncHash();
         code = 31 * code + Long.hashCode(totalCount);
         code = 31 * code + Long.hashCode(totalCountCapacity);
-        code = 31 * code + itemDataMap.size();
+        code = 31 * code + typeIds.size();
         code = 31 * code + totalTypeCapacity;
         code = 31 * code + color.ordinal();
         return code;
@@ -534,7 +688,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         super.write(buf);
         buf.writeVarLong(totalCount);
         buf.writeVarLong(totalCountCapacity);
-        buf.writeVarInt(itemDataMap.size());
+        buf.writeVarInt(typeIds.size());
         buf.writeVarInt(totalTypeCapacity);
         buf.writeEnum(color);
     }
@@ -572,10 +726,18 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             totalCountCapacity += data.getCountCapacity();
             totalTypeCapacity += data.getTypeCapacity();
             driveMap.put(key, data);
-            data.getItemMap().forEach((storedKey, value) -> {
-                itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, value);
+            int slot = addDriveSlot(data);
+            for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
+                HashedItem storedKey = entry.getKey();
+                int id = typeIds.getInt(storedKey);
+                if (id == -1) {
+                    id = createTypeDataForAbsent(storedKey);
+                }
+                counts[id] += entry.getLongValue();
+                totalCount += entry.getLongValue();
+                containingDrives[id * driveWords + (slot >> 6)] |= 1L << slot;
                 markForUpdate(storedKey);
-            });
+            }
             setNeedsUpdate();
         }
     }
@@ -585,20 +747,26 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             return;
         }
         QIODriveData data = driveMap.get(key);
-        if (updateItemMap) {
-            data.getItemMap().forEach((storedKey, value) -> {
-                QIOItemTypeData itemData = itemDataMap.get(storedKey);
-                if (itemData != null) {
-                    itemData.containingDrives.remove(key);
-                    itemData.count -= value;
-                    totalCount -= value;
+        int slot = removeDriveSlot(data);
+        for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
+            HashedItem storedKey = entry.getKey();
+            int id = typeIds.getInt(storedKey);
+            if (id != -1) {
+                //Note: We always unmark the drive as containing the type, even if we aren't updating the item data, so that
+                // the slot can be reused by another drive
+                containingDrives[id * driveWords + (slot >> 6)] &= ~(1L << slot);
+                if (updateItemMap) {
+                    counts[id] -= entry.getLongValue();
+                    totalCount -= entry.getLongValue();
                     markForUpdate(storedKey);
-                    // remove this entry from the item data map if it's now empty
-                    if (itemData.containingDrives.isEmpty() || itemData.count == 0) {
+                    // remove this type from the item data if it's now empty
+                    if (counts[id] == 0 || !hasContainingDrive(id)) {
                         removeItemData(storedKey);
                     }
                 }
-            });
+            }
+        }
+        if (updateItemMap) {
             setNeedsUpdate();
         }
         // remove drive and capacity info from core tracking
@@ -610,6 +778,49 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         key.save(data);
     }
 
+    /**
+     * @return the slot in the containing drive bitmaps assigned to the drive
+     */
+    private int addDriveSlot(QIODriveData data) {
+        int slot = 0;
+        while (slot < driveSlotLimit && driveSlots[slot] != null) {
+            slot++;
+        }
+        if (slot == driveSlotLimit) {
+            driveSlotLimit++;
+            if (slot == driveSlots.length) {
+                driveSlots = Arrays.copyOf(driveSlots, Math.max(8, 2 * driveSlots.length));
+            }
+            if (slot == 64 * driveWords) {
+                //Widen the bitmap of every type so that it has room for the new slot
+                int newWords = 2 * driveWords;
+                long[] widened = new long[types.length * newWords];
+                for (int id = 0; id < typeIdLimit; id++) {
+                    System.arraycopy(containingDrives, id * driveWords, widened, id * newWords, driveWords);
+                }
+                containingDrives = widened;
+                driveWords = newWords;
+            }
+        }
+        driveSlots[slot] = data;
+        return slot;
+    }
+
+    /**
+     * @return the slot in the containing drive bitmaps the drive was using
+     */
+    private int removeDriveSlot(QIODriveData data) {
+        int slot = 0;
+        while (driveSlots[slot] != data) {
+            slot++;
+        }
+        driveSlots[slot] = null;
+        while (driveSlotLimit > 0 && driveSlots[driveSlotLimit - 1] == null) {
+            driveSlotLimit--;
+        }
+        return slot;
+    }
+
     public void saveAll() {
         driveMap.forEach((key, value) -> {
             key.updateMetadata(value);
@@ -636,90 +847,4 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private void setNeedsUpdate() {
         setNeedsUpdate(null);
     }
-
-    public class QIOItemTypeData {
-
-        private final HashedItem itemType;
-        private long count = 0;
-        private final Set<QIODriveKey> containingDrives = new HashSet<>();
-
-        public QIOItemTypeData(HashedItem itemType) {
-            this.itemType = itemType;
-        }
-
-        private void addFromDrive(QIODriveData data, long toAdd) {
-            count += toAdd;
-            totalCount += toAdd;
-            containingDrives.add(data.getKey());
-            setNeedsUpdate();
-        }
-
-        private long add(long amount, Action action) {
-            long toAdd = amount;
-            // first we try to add the items to an already-containing drive
-            for (QIODriveKey key : containingDrives) {
-                toAdd = addItemsToDrive(toAdd, driveMap.get(key), action);
-                if (toAdd == 0) {
-                    break;
-                }
-            }
-            // next, we add the items to any drive that will take it
-            if (toAdd > 0) {
-                for (QIODriveData data : driveMap.values()) {
-                    if (!containingDrives.contains(data.getKey())) {
-                        toAdd = addItemsToDrive(toAdd, data, action);
-                        if (toAdd == 0) {
-                            break;
-                        }
-                    }
-                }
-            }
-            if (action.execute()) {
-                // update internal/core values
-                count += amount - toAdd;
-                totalCount += amount - toAdd;
-                setNeedsUpdate(itemType);
-            }
-            return toAdd;
-        }
-
-        private long addItemsToDrive(long toAdd, QIODriveData data, Action action) {
-            long rejects = data.add(itemType, toAdd, action);
-            if (action.execute() && rejects < toAdd) {
-                containingDrives.add(data.getKey());
-            }
-            return rejects;
-        }
-
-        private long remove(long amount, Action action) {
-            long removed = 0;
-            for (Iterator<QIODriveKey> iter = containingDrives.iterator(); iter.hasNext(); ) {
-                QIODriveData data = driveMap.get(iter.next());
-                removed += data.remove(itemType, amount - removed, action);
-                // remove this drive from containingDrives if it doesn't have this item anymore
-                if (action.execute() && data.getStored(itemType) == 0) {
-                    iter.remove();
-                }
-                // break early if we found enough items
-                if (removed == amount) {
-                    break;
-                }
-            }
-            if (action.execute()) {
-                count -= removed;
-                totalCount -= removed;
-                setNeedsUpdate(itemType);
-            }
-            return removed;
-        }
-
-        private ItemStack remove(int amount) {
-            int removed = MathUtils.clampToInt(remove(amount, Action.EXECUTE));
-            return removed == 0 ? ItemStack.EMPTY : itemType.createStack(removed);
-        }
-
-        public long getCount() {
-            return count;
-        }
-    }
 }
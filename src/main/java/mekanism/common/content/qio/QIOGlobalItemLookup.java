@@ -2,26 +2,31 @@ package mekanism.common.content.qio;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.BitSet;
 import java.util.Map;
 import java.util.UUID;
 import mekanism.api.NBTConstants;
 import mekanism.common.Mekanism;
 import mekanism.common.lib.MekanismSavedData;
 import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-//TODO - 1.19: Keep track of UUIDs synced to a given player, and clear when they disconnect. How quickly does the memory impact grow for the user to cache them??
-// Maybe have the client send a thing like: No I can't cache them for if it only has a certain amount of ram?
-// In theory that should drastically cut down the network packet sizes
 public class QIOGlobalItemLookup {
 
     public static final QIOGlobalItemLookup INSTANCE = new QIOGlobalItemLookup();
     private static final String DATA_HANDLER_NAME = "qio_type_cache";
 
     private QIOGlobalItemLookup() {
+        syncHandles.defaultReturnValue(-1);
     }
 
     /**
@@ -34,6 +39,13 @@ public class QIOGlobalItemLookup {
     // we only don't store them as such for the generic so that we don't have to create extra objects for purposes
     // of getting the uuid for a given item type
     private BiMap<UUID, HashedItem> itemCache = HashBiMap.create();
+    //Session scoped int handles for the types we sync to clients viewing QIO frequencies. The handles are shared between all players so that
+    // the same serialized update can be sent to all players viewing a frequency, but we keep track of which handles each player has had the
+    // corresponding type sent to them so that we only have to send the full item and UUID to each player once per session
+    private final Object2IntMap<UUID> syncHandles = new Object2IntOpenHashMap<>();
+    private final Map<UUID, BitSet> knownSyncHandles = new Object2ObjectOpenHashMap<>();
+    //Client side view of the sync handles the server has sent us
+    private final Int2ObjectMap<UUIDAwareHashedItem> clientSyncHandles = new Int2ObjectOpenHashMap<>();
 
     @Nullable
     public UUID getUUIDForType(HashedItem item) {
@@ -60,6 +72,58 @@ public class QIOGlobalItemLookup {
         return uuid == null ? null : itemCache.get(uuid);
     }
 
+    /**
+     * Gets the handle used to refer to the type with the given UUID when syncing the contents of a QIO frequency to clients, creating one if it does not exist yet.
+     *
+     * @apiNote Only call this from the server side
+     */
+    public int getOrCreateSyncHandle(UUID uuid) {
+        int handle = syncHandles.getInt(uuid);
+        if (handle == -1) {
+            handle = syncHandles.size();
+            syncHandles.put(uuid, handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Marks the given sync handle as known by the given player.
+     *
+     * @return {@code true} if the player did not know about the handle yet, and the type it corresponds to needs to be sent to them.
+     *
+     * @apiNote Only call this from the server side
+     */
+    public boolean markSyncHandleKnown(UUID player, int handle) {
+        BitSet known = knownSyncHandles.computeIfAbsent(player, uuid -> new BitSet());
+        if (known.get(handle)) {
+            return false;
+        }
+        known.set(handle);
+        return true;
+    }
+
+    /**
+     * Forgets what sync handles the given player knows about. Called when the player logs out as the client clears its handles when disconnecting.
+     */
+    public void clearPlayer(UUID player) {
+        knownSyncHandles.remove(player);
+    }
+
+    /**
+     * @apiNote Only call this from the client side
+     */
+    public void addClientSyncHandle(int handle, UUIDAwareHashedItem type) {
+        clientSyncHandles.put(handle, type);
+    }
+
+    /**
+     * @apiNote Only call this from the client side
+     */
+    @Nullable
+    public UUIDAwareHashedItem getClientTypeBySyncHandle(int handle) {
+        return clientSyncHandles.get(handle);
+    }
+
     private void markDirty() {
         if (dataHandler != null) {
             dataHandler.setDirty();
@@ -82,6 +146,12 @@ public class QIOGlobalItemLookup {
         // so we want to free up as much memory as we can
         itemCache = HashBiMap.create();
         dataHandler = null;
+        syncHandles.clear();
+        knownSyncHandles.clear();
+    }
+
+    public void resetClient() {
+        clientSyncHandles.clear();
     }
 
     private static class QIOGlobalItemLookupDataHandler extends MekanismSavedData {
@@ -1,10 +1,18 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import net.minecraft.core.BlockPos;
@@ -15,66 +23,191 @@ public class PathfinderCache {
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static final Map<UUID, NetworkPathCache> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+    private static long invalidations;
 
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
+            NetworkPathCache cache = cachedPaths.remove(network.getUUID());
+            if (cache != null) {
+                invalidations += cache.size();
+            }
+        }
+    }
+
+    /**
+     * Removes any cached paths in the given network that pass through or end at the given position.
+     *
+     * @param network Network the position is in.
+     * @param pos     Packed position of the transporter or acceptor that changed.
+     */
+    public static void onChanged(InventoryNetwork network, long pos) {
+        NetworkPathCache cache = cachedPaths.get(network.getUUID());
+        if (cache != null) {
+            invalidations += cache.invalidate(pos);
+            if (cache.isEmpty()) {
+                cachedPaths.remove(network.getUUID());
+            }
         }
     }
 
     public static void addCachedPath(LogisticalTransporterBase start, PathData data, List<BlockPos> positions, double cost) {
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new Object2ObjectOpenHashMap<>()).put(data, new CachedPath(positions, cost));
+        int maxSize = MekanismConfig.general.transporterPathCacheSize.get();
+        if (maxSize > 0) {
+            cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new NetworkPathCache()).put(data.key, new CachedPath(positions, cost), maxSize);
+        }
     }
 
     public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
         CachedPath ret = null;
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        if (cachedPaths.containsKey(uuid)) {
-            Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
+        NetworkPathCache pathMap = cachedPaths.get(start.getTransmitterNetwork().getUUID());
+        if (pathMap != null) {
+            long startPos = start.getTilePos().asLong();
+            long endPos = end.asLong();
             for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(start.getTilePos(), end, side));
+                CachedPath test = pathMap.get(PathData.getKey(startPos, endPos, side), startPos, endPos, side);
                 if (ret == null || (test != null && test.cost() < ret.cost())) {
                     ret = test;
                 }
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+        }
         return ret;
     }
 
     public static void reset() {
         cachedPaths.clear();
+        resetStats();
+    }
+
+    public static void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        invalidations = 0;
+    }
+
+    public static CacheStats getStats() {
+        int size = 0;
+        for (NetworkPathCache cache : cachedPaths.values()) {
+            size += cache.size();
+        }
+        return new CacheStats(cachedPaths.size(), size, hits, misses, evictions, invalidations);
     }
 
     public record CachedPath(List<BlockPos> path, double cost) {
+
+        private boolean matches(long start, long end, Direction side) {
+            //Note: Paths are stored from the destination back to the start
+            BlockPos dest = path.get(0);
+            return dest.asLong() == end && path.get(path.size() - 1).asLong() == start && path.get(1).relative(side).equals(dest);
+        }
+    }
+
+    public record CacheStats(int networks, int paths, long hits, long misses, long evictions, long invalidations) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : hits / (double) lookups;
+        }
     }
 
     public static class PathData {
 
-        private final BlockPos startTransporter;
-        private final BlockPos end;
-        private final Direction endSide;
-        private final int hash;
+        private final long key;
 
         public PathData(BlockPos s, BlockPos e, Direction es) {
-            startTransporter = s;
-            end = e;
-            endSide = es;
-            int code = 1;
-            code = 31 * code + startTransporter.hashCode();
-            code = 31 * code + end.hashCode();
-            code = 31 * code + endSide.hashCode();
-            hash = code;
+            key = getKey(s.asLong(), e.asLong(), es);
+        }
+
+        /**
+         * Packs the start, end and side into a single long. As this may collide, any path looked up by the key should be validated against the actual start, end and
+         * side.
+         */
+        private static long getKey(long start, long end, Direction side) {
+            return HashCommon.mix(HashCommon.mix(start) * 31 + end) * 6 + side.ordinal();
         }
 
         @Override
         public boolean equals(Object obj) {
-            return obj instanceof PathData data && data.startTransporter.equals(startTransporter) && data.end.equals(end) && data.endSide == endSide;
+            return obj instanceof PathData data && data.key == key;
         }
 
         @Override
         public int hashCode() {
-            return hash;
+            return Long.hashCode(key);
+        }
+    }
+
+    /**
+     * Least recently used cache of the paths in a single network, that also keeps track of which paths go through each position so that when a position changes only
+     * the affected paths have to be removed.
+     */
+    private static class NetworkPathCache {
+
+        private final Long2ObjectLinkedOpenHashMap<CachedPath> paths = new Long2ObjectLinkedOpenHashMap<>();
+        private final Long2ObjectMap<LongSet> pathsByPosition = new Long2ObjectOpenHashMap<>();
+
+        private CachedPath get(long key, long start, long end, Direction side) {
+            CachedPath path = paths.getAndMoveToLast(key);
+            return path != null && path.matches(start, end, side) ? path : null;
+        }
+
+        private void put(long key, CachedPath path, int maxSize) {
+            CachedPath previous = paths.putAndMoveToLast(key, path);
+            if (previous != null) {
+                unindex(key, previous);
+            }
+            for (BlockPos pos : path.path()) {
+                pathsByPosition.computeIfAbsent(pos.asLong(), p -> new LongOpenHashSet()).add(key);
+            }
+            while (paths.size() > maxSize) {
+                long eldestKey = paths.firstLongKey();
+                unindex(eldestKey, paths.removeFirst());
+                evictions++;
+            }
+        }
+
+        private int invalidate(long pos) {
+            LongSet keys = pathsByPosition.remove(pos);
+            if (keys == null) {
+                return 0;
+            }
+            int removed = 0;
+            for (LongIterator iterator = keys.iterator(); iterator.hasNext(); ) {
+                long key = iterator.nextLong();
+                CachedPath path = paths.remove(key);
+                if (path != null) {
+                    unindex(key, path);
+                    removed++;
+                }
+            }
+            return removed;
+        }
+
+        private void unindex(long key, CachedPath path) {
+            for (BlockPos pos : path.path()) {
+                long packed = pos.asLong();
+                LongSet keys = pathsByPosition.get(packed);
+                if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                    pathsByPosition.remove(packed);
+                }
+            }
+        }
+
+        private int size() {
+            return paths.size();
+        }
+
+        private boolean isEmpty() {
+            return paths.isEmpty();
         }
     }
-}
\ No newline at end of file
+}
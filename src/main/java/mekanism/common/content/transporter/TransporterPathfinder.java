@@ -1,10 +1,15 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -21,6 +26,7 @@ import mekanism.common.content.transporter.PathfinderCache.PathData;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.DestChecker;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.SidedBlockPos;
+import mekanism.common.lib.collection.LongMinHeap;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.ConnectionType;
@@ -49,11 +55,53 @@ public final class TransporterPathfinder {
         }
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap, additionalFlowingStacks);
-        List<Destination> paths = new ArrayList<>();
-        for (AcceptorData data : acceptors) {
-            Destination path = getPath(network, data, start, stack, min, chunkMap);
-            if (path != null) {
-                paths.add(path);
+        //Note: We keep track of the destinations by the index of their acceptor so that the order of destinations with equal scores stays the same
+        Destination[] destinations = new Destination[acceptors.size()];
+        IntList uncached = new IntArrayList();
+        for (int i = 0, size = acceptors.size(); i < size; i++) {
+            AcceptorData data = acceptors.get(i);
+            TransitResponse response = data.getResponse();
+            if (response.getSendingAmount() >= min) {
+                CachedPath test = PathfinderCache.getCache(start, data.getLocation(), data.getSides());
+                if (test != null && checkPath(network, test.path(), stack)) {
+                    destinations[i] = new Destination(test.path(), false, response, test.cost());
+                } else {
+                    uncached.add(i);
+                }
+            }
+        }
+        if (uncached.size() == 1) {
+            //If there is only a single destination we need to find a path to, a directed search is cheaper than flooding the network
+            int index = uncached.getInt(0);
+            destinations[index] = getPath(network, acceptors.get(index), start, stack, chunkMap);
+        } else if (!uncached.isEmpty()) {
+            //Otherwise, flood the network once from the start and find the paths to all the destinations from that
+            // rather than running a separate search for each destination
+            BlockPos startPos = start.getTilePos();
+            double maxSearchDistance = 0;
+            for (int i = 0, size = uncached.size(); i < size; i++) {
+                maxSearchDistance = Math.max(maxSearchDistance, getMaxSearchDistance(startPos, acceptors.get(uncached.getInt(i)).getLocation()));
+            }
+            PathFlood flood = new PathFlood(network, startPos, stack, maxSearchDistance);
+            flood.run();
+            for (int i = 0, size = uncached.size(); i < size; i++) {
+                int index = uncached.getInt(i);
+                AcceptorData data = acceptors.get(index);
+                FloodResult result = flood.getPath(data, chunkMap);
+                if (result == FloodResult.FOUND) {
+                    List<BlockPos> path = flood.getLastPath();
+                    PathfinderCache.addCachedPath(start, new PathData(startPos, data.getLocation(), flood.getLastSide()), path, flood.getLastScore());
+                    destinations[index] = new Destination(path, false, data.getResponse(), flood.getLastScore());
+                } else if (result == FloodResult.OUT_OF_RANGE) {
+                    //The shortest path strays further from the start than we would search for this destination, fall back to a directed search
+                    destinations[index] = getPath(network, data, start, stack, chunkMap);
+                }
+            }
+        }
+        List<Destination> paths = new ArrayList<>(destinations.length);
+        for (Destination destination : destinations) {
+            if (destination != null) {
+                paths.add(destination);
             }
         }
         Collections.sort(paths);
@@ -74,28 +122,27 @@ public final class TransporterPathfinder {
         return true;
     }
 
+    private static double getMaxSearchDistance(BlockPos start, BlockPos end) {
+        //If the blocks are very close together, allow for path finding up to four blocks away
+        return Math.max(2 * WorldUtils.distanceBetween(start, end), 4);
+    }
+
     @Nullable
-    private static Destination getPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, int min,
+    private static Destination getPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack,
           Long2ObjectMap<ChunkAccess> chunkMap) {
         TransitResponse response = data.getResponse();
-        if (response.getSendingAmount() >= min) {
-            BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(network, test.path(), stack)) {
-                return new Destination(test.path(), false, response, test.cost());
-            }
-            Pathfinder p = new Pathfinder(new DestChecker() {
-                @Override
-                public boolean isValid(TransporterStack stack, Direction side, BlockEntity tile) {
-                    return TransporterUtils.canInsert(tile, stack.color, response.getStack(), side, false);
-                }
-            }, network, start.getTileWorld(), dest, start.getTilePos(), stack);
-            p.find(chunkMap);
-            List<BlockPos> path = p.getPath();
-            if (path.size() >= 2) {
-                PathfinderCache.addCachedPath(start, new PathData(start.getTilePos(), dest, p.getSide()), path, p.finalScore);
-                return new Destination(path, false, response, p.finalScore);
+        BlockPos dest = data.getLocation();
+        Pathfinder p = new Pathfinder(new DestChecker() {
+            @Override
+            public boolean isValid(TransporterStack stack, Direction side, BlockEntity tile) {
+                return TransporterUtils.canInsert(tile, stack.color, response.getStack(), side, false);
             }
+        }, network, start.getTileWorld(), dest, start.getTilePos(), stack);
+        p.find(chunkMap);
+        List<BlockPos> path = p.getPath();
+        if (path.size() >= 2) {
+            PathfinderCache.addCachedPath(start, new PathData(start.getTilePos(), dest, p.getSide()), path, p.finalScore);
+            return new Destination(path, false, response, p.finalScore);
         }
         return null;
     }
@@ -353,13 +400,158 @@ public final class TransporterPathfinder {
         }
     }
 
+    private enum FloodResult {
+        FOUND,
+        OUT_OF_RANGE,
+        NOT_FOUND
+    }
+
+    /**
+     * Single source shortest path flood through the network from a transporter, so that the paths to all the destinations of a request can be found with one search
+     * rather than running a separate {@link Pathfinder} per destination.
+     */
+    private static class PathFlood {
+
+        private final LongSet closedSet = new LongOpenHashSet();
+        private final Long2LongMap navMap = new Long2LongOpenHashMap();
+        private final Long2DoubleMap gScore = new Long2DoubleOpenHashMap();
+        /**
+         * Furthest distance from the start along the best path to each node, so that we can make sure we don't return a path a directed search wouldn't have
+         * considered for a given destination.
+         */
+        private final Long2DoubleMap reach = new Long2DoubleOpenHashMap();
+        private final InventoryNetwork network;
+        private final BlockPos start;
+        private final TransporterStack transportStack;
+        private final double maxSearchDistance;
+        private List<BlockPos> lastPath = Collections.emptyList();
+        private Direction lastSide;
+        private double lastScore;
+
+        private PathFlood(InventoryNetwork network, BlockPos start, TransporterStack stack, double maxSearchDistance) {
+            this.network = network;
+            this.start = start;
+            this.transportStack = stack;
+            this.maxSearchDistance = maxSearchDistance;
+        }
+
+        private void run() {
+            LongMinHeap openQueue = new LongMinHeap();
+            long startNode = start.asLong();
+            gScore.put(startNode, 0);
+            openQueue.add(startNode, 0);
+            double maxSearchDistanceSq = maxSearchDistance * maxSearchDistance;
+            while (!openQueue.isEmpty()) {
+                long currentNode = openQueue.dequeueLong();
+                if (!closedSet.add(currentNode)) {
+                    //Stale entry from before the node's score got lowered
+                    continue;
+                }
+                BlockPos currentPos = BlockPos.of(currentNode);
+                if (start.distSqr(currentPos) > maxSearchDistanceSq) {
+                    //If it is too far away for any of our destinations, don't bother expanding it
+                    continue;
+                }
+                LogisticalTransporterBase currentNodeTransmitter = network.getTransmitter(currentPos);
+                double currentScore = gScore.get(currentNode);
+                double currentReach = reach.get(currentNode);
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    BlockPos neighbor = currentPos.relative(direction);
+                    LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
+                    if (transportStack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
+                        long neighborNode = neighbor.asLong();
+                        if (!closedSet.contains(neighborNode)) {
+                            double tentativeG = currentScore + neighborTransmitter.getCost();
+                            if (!gScore.containsKey(neighborNode) || tentativeG < gScore.get(neighborNode)) {
+                                navMap.put(neighborNode, currentNode);
+                                gScore.put(neighborNode, tentativeG);
+                                reach.put(neighborNode, Math.max(currentReach, WorldUtils.distanceBetween(start, neighbor)));
+                                openQueue.add(neighborNode, tentativeG);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Looks up the best path to the given destination. If one is found, it can be retrieved via {@link #getLastPath()}, {@link #getLastSide()}, and
+         * {@link #getLastScore()}.
+         */
+        private FloodResult getPath(AcceptorData data, Long2ObjectMap<ChunkAccess> chunkMap) {
+            BlockPos dest = data.getLocation();
+            BlockEntity destTile = null;
+            boolean outOfRange = false;
+            double maxDestDistance = getMaxSearchDistance(start, dest);
+            long bestNode = 0;
+            Direction bestSide = null;
+            double bestScore = 0;
+            for (Direction side : data.getSides()) {
+                //Note: The side is the side of the transporter that the destination is on
+                BlockPos transporterPos = dest.relative(side.getOpposite());
+                long transporterNode = transporterPos.asLong();
+                if (!closedSet.contains(transporterNode)) {
+                    //We never made it to the transporter
+                    continue;
+                }
+                double score = gScore.get(transporterNode) + 1;
+                if (bestSide != null && score >= bestScore) {
+                    continue;
+                }
+                LogisticalTransporterBase transporter = network.getTransmitter(transporterPos);
+                if (transporter == null) {
+                    continue;
+                }
+                if (destTile == null) {
+                    destTile = WorldUtils.getTileEntity(transporter.getTileWorld(), chunkMap, dest);
+                    if (destTile == null) {
+                        return FloodResult.NOT_FOUND;
+                    }
+                }
+                if (TransporterUtils.canInsert(destTile, transportStack.color, data.getResponse().getStack(), side, false) &&
+                    (transporter.canEmitTo(side) || (dest.equals(transportStack.homeLocation) && transporter.canConnect(side)))) {
+                    if (reach.get(transporterNode) > maxDestDistance) {
+                        //Note: The start node doesn't have a reach stored, but as it is zero it can never be out of range
+                        outOfRange = true;
+                    } else {
+                        bestNode = transporterNode;
+                        bestSide = side;
+                        bestScore = score;
+                    }
+                }
+            }
+            if (bestSide == null) {
+                return outOfRange ? FloodResult.OUT_OF_RANGE : FloodResult.NOT_FOUND;
+            }
+            lastPath = new ArrayList<>();
+            lastPath.add(dest);
+            lastPath.addAll(Pathfinder.reconstructPath(navMap, bestNode));
+            lastSide = bestSide;
+            lastScore = bestScore;
+            return FloodResult.FOUND;
+        }
+
+        private List<BlockPos> getLastPath() {
+            return lastPath;
+        }
+
+        private Direction getLastSide() {
+            return lastSide;
+        }
+
+        private double getLastScore() {
+            return lastScore;
+        }
+    }
+
     public static class Pathfinder {
 
-        private final Set<BlockPos> openSet = new ObjectOpenHashSet<>();
-        private final Set<BlockPos> closedSet = new ObjectOpenHashSet<>();
-        private final Map<BlockPos, BlockPos> navMap = new Object2ObjectOpenHashMap<>();
-        private final Object2DoubleOpenHashMap<BlockPos> gScore = new Object2DoubleOpenHashMap<>();
-        private final Object2DoubleOpenHashMap<BlockPos> fScore = new Object2DoubleOpenHashMap<>();
+        /**
+         * Scratch search state that is reused between searches on the same thread so that we don't have to reallocate (and regrow) the backing collections every time
+         * a transporter needs a new path.
+         */
+        private static final ThreadLocal<SearchState> SEARCH_STATE = ThreadLocal.withInitial(SearchState::new);
+
         private final InventoryNetwork network;
         private final BlockPos start;
         private final BlockPos finalNode;
@@ -380,11 +572,16 @@ public final class TransporterPathfinder {
         }
 
         public boolean find(Long2ObjectMap<ChunkAccess> chunkMap) {
-            openSet.add(start);
-            gScore.put(start, 0D);
+            SearchState state = SEARCH_STATE.get();
+            state.clear();
+            return find(state, chunkMap);
+        }
+
+        private boolean find(SearchState state, Long2ObjectMap<ChunkAccess> chunkMap) {
+            long startNode = start.asLong();
             //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
             double totalDistance = WorldUtils.distanceBetween(start, finalNode);
-            fScore.put(start, totalDistance);
+            state.open(startNode, 0, totalDistance);
             boolean hasValidDirection = false;
             LogisticalTransporterBase startTransmitter = network.getTransmitter(start);
             for (Direction direction : EnumUtils.DIRECTIONS) {
@@ -394,7 +591,7 @@ public final class TransporterPathfinder {
                     //If we can insert into the transporter, mark that we have a valid path we can take
                     hasValidDirection = true;
                     break;
-                } else if (isValidDestination(start, startTransmitter, direction, neighbor, chunkMap)) {
+                } else if (isValidDestination(state, start, startTransmitter, direction, neighbor, chunkMap)) {
                     //Otherwise, if we are neighboring our destination, and we can emit to the location, or it is going back
                     // to its home location and can connect to it just exit early and return that this is the best path
                     return true;
@@ -404,48 +601,42 @@ public final class TransporterPathfinder {
                 //If there is no valid direction that the stack can go just exit
                 return false;
             }
-            //If the blocks are very close together, allow for path finding up to four blocks away
-            double maxSearchDistance = Math.max(2 * totalDistance, 4);
-            while (!openSet.isEmpty()) {
-                BlockPos currentNode = null;
-                double lowestFScore = 0;
-                for (BlockPos node : openSet) {
-                    if (currentNode == null || fScore.getDouble(node) < lowestFScore) {
-                        currentNode = node;
-                        lowestFScore = fScore.getDouble(node);
-                    }
-                }
-                if (currentNode == null) {
-                    //If we have no current node, then exit
-                    break;
+            double maxSearchDistance = getMaxSearchDistance(start, finalNode);
+            double maxSearchDistanceSq = maxSearchDistance * maxSearchDistance;
+            while (!state.openQueue.isEmpty()) {
+                //Grab the node with the lowest fScore
+                long currentNode = state.openQueue.dequeueLong();
+                if (!state.openSet.remove(currentNode)) {
+                    //If the node isn't actually open anymore, then this is a stale entry from before the node's score got lowered,
+                    // and we already checked it with the better score
+                    continue;
                 }
-                //Remove the current node from unchecked and add it to checked
-                openSet.remove(currentNode);
-                closedSet.add(currentNode);
-                if (WorldUtils.distanceBetween(start, currentNode) > maxSearchDistance) {
+                //Add it to checked
+                state.closedSet.add(currentNode);
+                BlockPos currentPos = BlockPos.of(currentNode);
+                if (start.distSqr(currentPos) > maxSearchDistanceSq) {
                     //If it is too far away for us to keep considering then continue on and see if we have another path that may be valid
                     // Even if it currently has a bit higher of a score
                     continue;
                 }
-                LogisticalTransporterBase currentNodeTransmitter = network.getTransmitter(currentNode);
-                double currentScore = gScore.getDouble(currentNode);
+                LogisticalTransporterBase currentNodeTransmitter = network.getTransmitter(currentPos);
+                double currentScore = state.gScore.get(currentNode);
                 for (Direction direction : EnumUtils.DIRECTIONS) {
-                    BlockPos neighbor = currentNode.relative(direction);
+                    BlockPos neighbor = currentPos.relative(direction);
                     LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
                     if (transportStack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
                         //If the neighbor is a transporter and the stack is valid for it
+                        long neighborNode = neighbor.asLong();
                         double tentativeG = currentScore + neighborTransmitter.getCost();
-                        if (closedSet.contains(neighbor) && tentativeG >= gScore.getDouble(neighbor)) {
+                        if (state.closedSet.contains(neighborNode) && tentativeG >= state.gScore.get(neighborNode)) {
                             continue;
                         }
-                        if (!openSet.contains(neighbor) || tentativeG < gScore.getDouble(neighbor)) {
-                            navMap.put(neighbor, currentNode);
-                            gScore.put(neighbor, tentativeG);
+                        if (!state.openSet.contains(neighborNode) || tentativeG < state.gScore.get(neighborNode)) {
+                            state.navMap.put(neighborNode, currentNode);
                             //Put the gScore plus estimate in the final score
-                            fScore.put(neighbor, tentativeG + WorldUtils.distanceBetween(neighbor, finalNode));
-                            openSet.add(neighbor);
+                            state.open(neighborNode, tentativeG, tentativeG + WorldUtils.distanceBetween(neighbor, finalNode));
                         }
-                    } else if (isValidDestination(currentNode, currentNodeTransmitter, direction, neighbor, chunkMap)) {
+                    } else if (isValidDestination(state, currentPos, currentNodeTransmitter, direction, neighbor, chunkMap)) {
                         //Else if the neighbor is the destination, and we can send to it
                         return true;
                     }
@@ -459,8 +650,8 @@ public final class TransporterPathfinder {
          *
          * @return True if we found a valid connection to the destination and can insert into it, false otherwise
          */
-        private boolean isValidDestination(BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction, BlockPos neighbor,
-              Long2ObjectMap<ChunkAccess> chunkMap) {
+        private boolean isValidDestination(SearchState state, BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction,
+              BlockPos neighbor, Long2ObjectMap<ChunkAccess> chunkMap) {
             //Check to make sure that it is the destination
             if (startTransporter != null && neighbor.equals(finalNode)) {
                 BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, neighbor);
@@ -471,8 +662,9 @@ public final class TransporterPathfinder {
                         // we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true)),
                         // then this is the proper path, so we mark it as so and return true indicating that we found and marked the ideal path
                         side = direction;
-                        results = reconstructPath(navMap, start);
-                        finalScore = gScore.getDouble(start) + WorldUtils.distanceBetween(start, finalNode);
+                        long startNode = start.asLong();
+                        results = reconstructPath(state.navMap, startNode);
+                        finalScore = state.gScore.get(startNode) + WorldUtils.distanceBetween(start, finalNode);
                         return true;
                     }
                 }
@@ -480,11 +672,12 @@ public final class TransporterPathfinder {
             return false;
         }
 
-        private List<BlockPos> reconstructPath(Map<BlockPos, BlockPos> navMap, BlockPos nextNode) {
+        private static List<BlockPos> reconstructPath(Long2LongMap navMap, long nextNode) {
             List<BlockPos> path = new ArrayList<>();
-            while (nextNode != null) {
-                path.add(nextNode);
+            path.add(BlockPos.of(nextNode));
+            while (navMap.containsKey(nextNode)) {
                 nextNode = navMap.get(nextNode);
+                path.add(BlockPos.of(nextNode));
             }
             return path;
         }
@@ -506,5 +699,29 @@ public final class TransporterPathfinder {
                 return false;
             }
         }
+
+        private static class SearchState {
+
+            private final LongMinHeap openQueue = new LongMinHeap();
+            private final LongSet openSet = new LongOpenHashSet();
+            private final LongSet closedSet = new LongOpenHashSet();
+            private final Long2LongMap navMap = new Long2LongOpenHashMap();
+            private final Long2DoubleMap gScore = new Long2DoubleOpenHashMap();
+
+            private void open(long node, double g, double f) {
+                gScore.put(node, g);
+                openSet.add(node);
+                //Note: If the node is already in the queue, we just add it again with the lower score, and skip the stale entry when we get to it
+                openQueue.add(node, f);
+            }
+
+            private void clear() {
+                openQueue.clear();
+                openSet.clear();
+                closedSet.clear();
+                navMap.clear();
+                gScore.clear();
+            }
+        }
     }
 }
\ No newline at end of file
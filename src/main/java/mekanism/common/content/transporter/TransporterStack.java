@@ -60,6 +60,9 @@ public class TransporterStack {
         return stack;
     }
 
+    /**
+     * @apiNote The item stack is not included in the packet data, and is expected to be set by the caller.
+     */
     public static TransporterStack readFromPacket(FriendlyByteBuf dataStream) {
         TransporterStack stack = new TransporterStack();
         stack.read(dataStream);
@@ -69,6 +72,9 @@ public class TransporterStack {
         return stack;
     }
 
+    /**
+     * @apiNote Does not write the item stack, as when syncing stacks to the client the item gets sent separately.
+     */
     public void write(LogisticalTransporterBase transporter, FriendlyByteBuf buf) {
         buf.writeVarInt(TransporterUtils.getColorIndex(color));
         buf.writeVarInt(progress);
@@ -81,7 +87,6 @@ public class TransporterStack {
             buf.writeBoolean(false);
         }
         buf.writeBlockPos(getPrev(transporter));
-        buf.writeItem(itemStack);
     }
 
     public void read(FriendlyByteBuf dataStream) {
@@ -93,7 +98,6 @@ public class TransporterStack {
             clientNext = dataStream.readBlockPos();
         }
         clientPrev = dataStream.readBlockPos();
-        itemStack = dataStream.readItem();
     }
 
     public void writeToUpdateTag(LogisticalTransporterBase transporter, CompoundTag updateTag) {
@@ -0,0 +1,194 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import mekanism.common.Mekanism;
+import mekanism.common.content.network.transmitter.DiversionTransporter;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.network.to_client.PacketTransporterUpdate;
+import mekanism.common.network.to_client.PacketTransporterUpdate.SyncedStack;
+import mekanism.common.network.to_client.PacketTransporterUpdate.TransporterChanges;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Queue of changes to the stacks in transit in logistical transporters that need to be synced to the players tracking the transporters. All the changes made during a
+ * tick are sent at the end of the tick, bundled into as few packets as possible per player.
+ * <br>
+ * Instead of sending the full item for every stack, each player connection keeps a table of the item types it has been sent, so that after the first time a type is
+ * seen only its id and the amount have to be sent.
+ */
+public class TransporterUpdateQueue {
+
+    /**
+     * Max number of transporters to sync in a single packet, so that a lot of transporters updating at once can't make the packet too large.
+     */
+    private static final int MAX_TRANSPORTERS_PER_PACKET = 256;
+    /**
+     * Max number of item types we keep track of per player, after which we start the table over so that it can't grow unbounded.
+     */
+    private static final int MAX_ITEM_TYPES = 4_096;
+
+    //Note: Keyed by identity as transporters don't override equals
+    private static final Reference2ObjectMap<LogisticalTransporterBase, QueuedChanges> queuedChanges = new Reference2ObjectLinkedOpenHashMap<>();
+    private static final Map<UUID, Object2IntMap<HashedItem>> playerItemTypes = new Object2ObjectOpenHashMap<>();
+    //Client side only
+    private static final Int2ObjectMap<HashedItem> clientItemTypes = new Int2ObjectOpenHashMap<>();
+
+    private TransporterUpdateQueue() {
+    }
+
+    /**
+     * Queues a stack that was added to or changed in the given transporter to be synced at the end of the tick.
+     */
+    public static void queueStack(LogisticalTransporterBase transporter, int stackId, TransporterStack stack) {
+        QueuedChanges changes = getChanges(transporter);
+        changes.updates.put(stackId, stack);
+        changes.deletes.remove(stackId);
+    }
+
+    /**
+     * Queues a stack that was removed from the given transporter to be synced at the end of the tick.
+     */
+    public static void queueDelete(LogisticalTransporterBase transporter, int stackId) {
+        QueuedChanges changes = getChanges(transporter);
+        //Note: If the stack was added this tick, we still have to send the delete as the client may have been sent it in an earlier tick
+        changes.updates.remove(stackId);
+        changes.deletes.add(stackId);
+    }
+
+    private static QueuedChanges getChanges(LogisticalTransporterBase transporter) {
+        return queuedChanges.computeIfAbsent(transporter, t -> new QueuedChanges());
+    }
+
+    /**
+     * Sends all the queued changes.
+     */
+    public static void flush() {
+        if (queuedChanges.isEmpty()) {
+            return;
+        }
+        Object2ObjectMap<ServerPlayer, PacketBuilder> builders = new Object2ObjectLinkedOpenHashMap<>();
+        for (Map.Entry<LogisticalTransporterBase, QueuedChanges> entry : queuedChanges.entrySet()) {
+            LogisticalTransporterBase transporter = entry.getKey();
+            TileEntityTransmitter tile = transporter.getTransmitterTile();
+            //Skip any transporters that have been removed or unloaded since they queued the changes
+            if (!tile.isRemoved() && tile.getLevel() instanceof ServerLevel level) {
+                QueuedChanges changes = entry.getValue();
+                for (ServerPlayer player : level.getChunkSource().chunkMap.getPlayers(new ChunkPos(tile.getBlockPos()), false)) {
+                    PacketBuilder builder = builders.computeIfAbsent(player, p -> new PacketBuilder());
+                    if (builder.changes.size() >= MAX_TRANSPORTERS_PER_PACKET) {
+                        builder.send(player);
+                    }
+                    Object2IntMap<HashedItem> itemTypes = playerItemTypes.computeIfAbsent(player.getUUID(), uuid -> new Object2IntOpenHashMap<>());
+                    if (itemTypes.size() + changes.updates.size() > MAX_ITEM_TYPES) {
+                        //Start the table over, as we need to define all the types in the table before we use any ids from it, make sure the changes that
+                        // reference the old table have been sent first
+                        if (!builder.changes.isEmpty()) {
+                            builder.send(player);
+                        }
+                        itemTypes.clear();
+                        builder.resetTypes = true;
+                    }
+                    builder.changes.add(createChanges(transporter, changes, itemTypes, builder));
+                }
+            }
+        }
+        queuedChanges.clear();
+        for (Object2ObjectMap.Entry<ServerPlayer, PacketBuilder> entry : builders.object2ObjectEntrySet()) {
+            PacketBuilder builder = entry.getValue();
+            if (!builder.changes.isEmpty()) {
+                builder.send(entry.getKey());
+            }
+        }
+    }
+
+    private static TransporterChanges createChanges(LogisticalTransporterBase transporter, QueuedChanges changes, Object2IntMap<HashedItem> itemTypes,
+          PacketBuilder builder) {
+        Int2ObjectMap<SyncedStack> updates = new Int2ObjectOpenHashMap<>(changes.updates.size());
+        for (Int2ObjectMap.Entry<TransporterStack> entry : changes.updates.int2ObjectEntrySet()) {
+            TransporterStack stack = entry.getValue();
+            HashedItem type = HashedItem.raw(stack.itemStack);
+            int itemType = itemTypes.getOrDefault(type, -1);
+            if (itemType == -1) {
+                itemType = itemTypes.size();
+                //Note: Make sure that we store a copy as the key, so that if the stack gets modified the table doesn't get corrupted
+                type = type.recreate();
+                itemTypes.put(type, itemType);
+                builder.itemTypes.put(itemType, type);
+            }
+            updates.put(entry.getIntKey(), new SyncedStack(stack, itemType));
+        }
+        return new TransporterChanges(transporter, updates, changes.deletes, transporter instanceof DiversionTransporter diversion ? diversion.modes : null);
+    }
+
+    public static void clearPlayer(UUID player) {
+        playerItemTypes.remove(player);
+    }
+
+    /**
+     * Updates the item types we know about with the ones defined by a packet.
+     *
+     * @apiNote Only call on the client.
+     */
+    public static void receiveItemTypes(boolean reset, Int2ObjectMap<HashedItem> itemTypes) {
+        if (reset) {
+            clientItemTypes.clear();
+        }
+        clientItemTypes.putAll(itemTypes);
+    }
+
+    /**
+     * @apiNote Only call on the client.
+     */
+    @Nullable
+    public static HashedItem getItemType(int itemType) {
+        return clientItemTypes.get(itemType);
+    }
+
+    public static void reset() {
+        queuedChanges.clear();
+        playerItemTypes.clear();
+    }
+
+    public static void resetClient() {
+        clientItemTypes.clear();
+    }
+
+    private static class QueuedChanges {
+
+        private final Int2ObjectMap<TransporterStack> updates = new Int2ObjectOpenHashMap<>();
+        private final IntSet deletes = new IntOpenHashSet();
+    }
+
+    private static class PacketBuilder {
+
+        private final Int2ObjectMap<HashedItem> itemTypes = new Int2ObjectOpenHashMap<>();
+        private List<TransporterChanges> changes = new ArrayList<>();
+        private boolean resetTypes;
+
+        private void send(ServerPlayer player) {
+            Mekanism.packetHandler().sendTo(new PacketTransporterUpdate(resetTypes, new Int2ObjectOpenHashMap<>(itemTypes), changes), player);
+            itemTypes.clear();
+            changes = new ArrayList<>();
+            resetTypes = false;
+        }
+    }
+}
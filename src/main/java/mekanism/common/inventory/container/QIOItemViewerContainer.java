@@ -324,9 +324,10 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             // just short circuit a lot of logic
             return;
         }
+        //Note: The values are the change in count of each type
         itemMap.object2LongEntrySet().forEach(entry -> {
-            long value = entry.getLongValue();
-            if (value == 0) {
+            long value = cachedInventory.getLong(entry.getKey()) + entry.getLongValue();
+            if (value <= 0) {
                 cachedInventory.removeLong(entry.getKey());
             } else {
                 cachedInventory.put(entry.getKey(), value);
@@ -0,0 +1,247 @@
+package mekanism.common.lib;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shared entity lookups for things that repeatedly look for entities in an area, such as teleporters, chargepads, lasers, and the death zones of multiblocks. On the
+ * server the results of each query are cached for the rest of the tick, so that anything else looking in the same area that tick doesn't have to query the world
+ * again.
+ * <br>
+ * Things that check the same area every tick can also use an {@link AreaWatch}, so that once there are no entities around the area they skip looking for entities
+ * until an entity enters one of the chunk sections near the area.
+ *
+ * @implNote Returned lists are always new lists, so they may be modified by the caller.
+ */
+public class EntityQueryCache {
+
+    /**
+     * How many ticks to keep track of which sections entities have entered, after which we start over so that it can't grow unbounded. This is checked whenever an
+     * entity enters a section, so it gets reset even if nothing in the dimension is looking for entities.
+     */
+    private static final int SECTION_CHANGES_RESET_TICKS = 1_200;
+    /**
+     * How far outside a section an entity's bounding box may reach, matches what vanilla checks when looking for entities.
+     */
+    private static final double SECTION_MARGIN = 2;
+
+    private static final Map<ResourceKey<Level>, DimensionQueries> dimensionQueries = new Object2ObjectOpenHashMap<>();
+
+    private EntityQueryCache() {
+    }
+
+    /**
+     * Gets the entities of the given class that intersect the given bounds, the same as {@link Level#getEntitiesOfClass(Class, AABB)}.
+     */
+    public static <T extends Entity> List<T> getEntitiesOfClass(Level level, Class<T> type, AABB bounds) {
+        return getEntitiesOfClass(level, type, bounds, entity -> true);
+    }
+
+    /**
+     * Gets the entities of the given class that intersect the given bounds and match the predicate, the same as
+     * {@link Level#getEntitiesOfClass(Class, AABB, Predicate)}.
+     */
+    public static <T extends Entity> List<T> getEntitiesOfClass(Level level, Class<T> type, AABB bounds, Predicate<? super T> predicate) {
+        if (level.isClientSide) {
+            return level.getEntitiesOfClass(type, bounds, predicate);
+        }
+        return filter(getQueries(level).getEntities(level, type, bounds), type, null, predicate);
+    }
+
+    /**
+     * Gets the entities of the given class that intersect the given bounds and match the predicate, skipping looking if the watch knows there are no entities around
+     * the bounds.
+     *
+     * @param watch Watch for the given bounds. Should not be shared by different bounds.
+     */
+    public static <T extends Entity> List<T> getEntitiesOfClass(Level level, Class<T> type, AABB bounds, Predicate<? super T> predicate, AreaWatch watch) {
+        if (level.isClientSide) {
+            return level.getEntitiesOfClass(type, bounds, predicate);
+        }
+        DimensionQueries queries = getQueries(level);
+        if (!bounds.equals(watch.bounds)) {
+            watch.setBounds(bounds);
+        } else if (watch.idle && !queries.changedSince(watch.sectionBounds, watch.checkedAt)) {
+            return new ArrayList<>();
+        }
+        watch.checkedAt = queries.lastChange;
+        //Look for any entities in the sections around the bounds, and then narrow it down to the ones in the bounds
+        List<Entity> nearby = queries.getEntities(level, Entity.class, watch.sectionBounds);
+        watch.idle = nearby.isEmpty();
+        return filter(nearby, type, bounds, predicate);
+    }
+
+    private static <T extends Entity> List<T> filter(List<? extends Entity> entities, Class<T> type, @Nullable AABB bounds,
+          Predicate<? super T> predicate) {
+        List<T> filtered = new ArrayList<>(entities.size());
+        for (Entity entity : entities) {
+            if (type.isInstance(entity) && (bounds == null || entity.getBoundingBox().intersects(bounds))) {
+                T t = type.cast(entity);
+                if (predicate.test(t)) {
+                    filtered.add(t);
+                }
+            }
+        }
+        return filtered;
+    }
+
+    private static DimensionQueries getQueries(Level level) {
+        DimensionQueries queries = dimensionQueries.computeIfAbsent(level.dimension(), dimension -> new DimensionQueries());
+        queries.startTick(level.getGameTime());
+        return queries;
+    }
+
+    /**
+     * Marks that an entity has entered or been added to the given section.
+     */
+    public static void entityEnteredSection(Level level, long sectionPos) {
+        if (!level.isClientSide) {
+            DimensionQueries queries = dimensionQueries.get(level.dimension());
+            if (queries != null) {
+                queries.checkSectionReset(level.getGameTime());
+                queries.sectionChanges.put(sectionPos, ++queries.lastChange);
+            }
+        }
+    }
+
+    /**
+     * Called at the end of each level tick to release the results that were cached during the tick, so that they don't keep any entities that have since been removed
+     * loaded until the next time something in the dimension looks for entities.
+     */
+    public static void endTick(Level level) {
+        if (!level.isClientSide) {
+            DimensionQueries queries = dimensionQueries.get(level.dimension());
+            if (queries != null) {
+                queries.results.clear();
+                queries.checkSectionReset(level.getGameTime());
+            }
+        }
+    }
+
+    public static void unload(Level level) {
+        if (!level.isClientSide) {
+            dimensionQueries.remove(level.dimension());
+        }
+    }
+
+    public static void reset() {
+        dimensionQueries.clear();
+    }
+
+    /**
+     * Keeps track of whether there were any entities around an area the last time it was checked.
+     */
+    public static class AreaWatch {
+
+        private AABB bounds;
+        private AABB sectionBounds;
+        private long checkedAt;
+        private boolean idle;
+
+        private void setBounds(AABB bounds) {
+            this.bounds = bounds;
+            //Expand the bounds to cover the entire sections that entities that may intersect the bounds could be in
+            sectionBounds = new AABB(
+                  SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(Mth.floor(bounds.minX - SECTION_MARGIN))),
+                  SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(Mth.floor(bounds.minY - SECTION_MARGIN))),
+                  SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(Mth.floor(bounds.minZ - SECTION_MARGIN))),
+                  SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(Mth.floor(bounds.maxX + SECTION_MARGIN)) + 1),
+                  SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(Mth.floor(bounds.maxY + SECTION_MARGIN)) + 1),
+                  SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(Mth.floor(bounds.maxZ + SECTION_MARGIN)) + 1)
+            );
+            idle = false;
+        }
+    }
+
+    private static class DimensionQueries {
+
+        private final Map<Query, List<? extends Entity>> results = new Object2ObjectOpenHashMap<>();
+        //Section pos -> when an entity last entered that section
+        private final Long2LongMap sectionChanges = new Long2LongOpenHashMap();
+        private long tick = Long.MIN_VALUE;
+        private long lastSectionReset;
+        private long resetChange;
+        private long lastChange;
+
+        private void startTick(long time) {
+            if (tick != time) {
+                tick = time;
+                results.clear();
+                checkSectionReset(time);
+            }
+        }
+
+        private void checkSectionReset(long time) {
+            if (time - lastSectionReset >= SECTION_CHANGES_RESET_TICKS || time < lastSectionReset) {
+                //Start tracking section changes over, and mark it as a change so that any idle watches check again
+                lastSectionReset = time;
+                sectionChanges.clear();
+                resetChange = ++lastChange;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T extends Entity> List<T> getEntities(Level level, Class<T> type, AABB bounds) {
+            Query query = new Query(type, bounds);
+            List<T> cached = (List<T>) results.get(query);
+            if (cached == null || !isStillValid(cached, bounds)) {
+                cached = level.getEntitiesOfClass(type, bounds);
+                results.put(query, cached);
+            }
+            return cached;
+        }
+
+        /**
+         * Checks the cached entities haven't been removed or moved out of the bounds since they were looked up earlier in the tick.
+         */
+        private boolean isStillValid(List<? extends Entity> cached, AABB bounds) {
+            for (Entity entity : cached) {
+                if (entity.isRemoved() || !entity.getBoundingBox().intersects(bounds)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean changedSince(AABB sectionBounds, long checkedAt) {
+            if (lastChange == checkedAt) {
+                //Nothing has changed at all
+                return false;
+            } else if (checkedAt < resetChange) {
+                //We don't know what changed before we started tracking section changes over
+                return true;
+            }
+            int minX = SectionPos.blockToSectionCoord(Mth.floor(sectionBounds.minX));
+            int minY = SectionPos.blockToSectionCoord(Mth.floor(sectionBounds.minY));
+            int minZ = SectionPos.blockToSectionCoord(Mth.floor(sectionBounds.minZ));
+            int maxX = SectionPos.blockToSectionCoord(Mth.floor(sectionBounds.maxX) - 1);
+            int maxY = SectionPos.blockToSectionCoord(Mth.floor(sectionBounds.maxY) - 1);
+            int maxZ = SectionPos.blockToSectionCoord(Mth.floor(sectionBounds.maxZ) - 1);
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        if (sectionChanges.get(SectionPos.asLong(x, y, z)) > checkedAt) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Query(Class<?> type, AABB bounds) {
+    }
+}
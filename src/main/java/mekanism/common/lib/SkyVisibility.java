@@ -0,0 +1,98 @@
+package mekanism.common.lib;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+/**
+ * Keeps track of whether a position can see the sky, without having to query the light engine every time things like solar and wind generators check it.
+ * <br>
+ * Whether the position can see the sky only gets rechecked when the world surface heightmap of the column changes, which is the case whenever a block is placed above
+ * or the top block above is removed. When there is something above the position that may let the sky through, such as glass, changes below it don't update the
+ * heightmap, so we also recheck covered positions every so often.
+ */
+public class SkyVisibility {
+
+    /**
+     * How often to recheck positions that have blocks above them.
+     */
+    private static final int COVERED_RECHECK_TICKS = 20;
+    /**
+     * How often to recheck positions that have nothing above them, to catch changes to the block at the position itself, such as it becoming fluid logged.
+     */
+    private static final int UNCOVERED_RECHECK_TICKS = 200;
+
+    private static final Map<ResourceKey<Level>, SunBrightness> sunBrightness = new Object2ObjectOpenHashMap<>();
+
+    private final BlockPos pos;
+    private final BiPredicate<Level, BlockPos> skyCheck;
+    private int lastHeight = Integer.MIN_VALUE;
+    private long lastChecked;
+    private boolean canSeeSky;
+
+    /**
+     * @param pos      Position to check.
+     * @param skyCheck Check for whether the position can see the sky.
+     */
+    public SkyVisibility(BlockPos pos, BiPredicate<Level, BlockPos> skyCheck) {
+        this.pos = pos;
+        this.skyCheck = skyCheck;
+    }
+
+    public SkyVisibility(BlockPos pos) {
+        this(pos, Level::canSeeSky);
+    }
+
+    public boolean canSeeSky(Level level) {
+        int height = level.getHeight(Heightmap.Types.WORLD_SURFACE, pos.getX(), pos.getZ());
+        long time = level.getGameTime();
+        //Note: The block at the position itself may be the top block of the column, which is why we only consider it covered if there is something above it
+        int recheckTicks = height > pos.getY() + 1 ? COVERED_RECHECK_TICKS : UNCOVERED_RECHECK_TICKS;
+        if (height != lastHeight || time >= lastChecked + recheckTicks || time < lastChecked) {
+            lastHeight = height;
+            lastChecked = time;
+            canSeeSky = skyCheck.test(level, pos);
+        }
+        return canSeeSky;
+    }
+
+    /**
+     * Checks to see if the position can see the sun, the same as {@link WorldUtils#canSeeSun(Level, BlockPos)}.
+     */
+    public boolean canSeeSun(Level level) {
+        //Note: Check the dimension first as those are simple and quick checks, so we can skip checking the position when it is too dark
+        return level.dimensionType().hasSkyLight() && level.getSkyDarken() < 4 && canSeeSky(level);
+    }
+
+    /**
+     * Gets the brightness of the sun, the same as {@link WorldUtils#getSunBrightness(Level, float)} with a partial tick of one, but only calculates it once per tick for
+     * each dimension on the server.
+     */
+    public static float getSunBrightness(Level level) {
+        if (level.isClientSide) {
+            return WorldUtils.getSunBrightness(level, 1.0F);
+        }
+        SunBrightness brightness = sunBrightness.computeIfAbsent(level.dimension(), dimension -> new SunBrightness());
+        long time = level.getGameTime();
+        if (brightness.lastUpdated != time) {
+            brightness.lastUpdated = time;
+            brightness.brightness = WorldUtils.getSunBrightness(level, 1.0F);
+        }
+        return brightness.brightness;
+    }
+
+    public static void reset() {
+        sunBrightness.clear();
+    }
+
+    private static class SunBrightness {
+
+        private long lastUpdated = Long.MIN_VALUE;
+        private float brightness;
+    }
+}
@@ -0,0 +1,182 @@
+package mekanism.common.lib;
+
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import net.minecraft.nbt.ByteTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.FloatTag;
+import net.minecraft.nbt.IntTag;
+import net.minecraft.nbt.LongTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.ShortTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.nbt.TagTypes;
+import net.minecraft.network.FriendlyByteBuf;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents the changes between two versions of an update tag, so that only the fields that changed have to be synced. Nested compounds are diffed recursively, and
+ * numbers and strings are written directly in binary (ints and longs as varints) instead of as full NBT.
+ */
+public class UpdateTagDelta {
+
+    /**
+     * Max size in bytes that a single changed tag is allowed to be when reading it, matches the limit of {@link FriendlyByteBuf#readNbt()}.
+     */
+    private static final long MAX_TAG_SIZE = 2_097_152L;
+    private static final byte NESTED_DELTA = -1;
+
+    private final List<Change> changes;
+    private final List<String> removed;
+
+    private UpdateTagDelta(List<Change> changes, List<String> removed) {
+        this.changes = changes;
+        this.removed = removed;
+    }
+
+    /**
+     * Calculates the changes needed to turn the previous tag into the current tag.
+     *
+     * @return The delta, or {@code null} if the tags are equal.
+     */
+    @Nullable
+    public static UpdateTagDelta create(CompoundTag previous, CompoundTag current) {
+        List<Change> changes = new ArrayList<>();
+        for (String key : current.getAllKeys()) {
+            Tag currentValue = Objects.requireNonNull(current.get(key));
+            Tag previousValue = previous.get(key);
+            if (previousValue instanceof CompoundTag previousCompound && currentValue instanceof CompoundTag currentCompound) {
+                UpdateTagDelta nested = create(previousCompound, currentCompound);
+                if (nested != null) {
+                    changes.add(new Change(key, null, nested));
+                }
+            } else if (!currentValue.equals(previousValue)) {
+                changes.add(new Change(key, currentValue, null));
+            }
+        }
+        List<String> removed = Collections.emptyList();
+        for (String key : previous.getAllKeys()) {
+            if (!current.contains(key)) {
+                if (removed.isEmpty()) {
+                    removed = new ArrayList<>();
+                }
+                removed.add(key);
+            }
+        }
+        if (changes.isEmpty() && removed.isEmpty()) {
+            return null;
+        }
+        return new UpdateTagDelta(changes, removed);
+    }
+
+    /**
+     * Applies this delta to a copy of the given tag.
+     *
+     * @param previous Tag the delta was created against.
+     *
+     * @return The updated tag.
+     */
+    public CompoundTag apply(CompoundTag previous) {
+        CompoundTag result = previous.copy();
+        applyTo(result);
+        return result;
+    }
+
+    private void applyTo(CompoundTag tag) {
+        for (String key : removed) {
+            tag.remove(key);
+        }
+        for (Change change : changes) {
+            if (change.nested() == null) {
+                tag.put(change.key(), change.value());
+            } else if (tag.get(change.key()) instanceof CompoundTag nestedTag) {
+                change.nested().applyTo(nestedTag);
+            } else {
+                //Shouldn't happen as we only create nested deltas if the previous value was a compound, but if it does do the best we can
+                CompoundTag nestedTag = new CompoundTag();
+                change.nested().applyTo(nestedTag);
+                tag.put(change.key(), nestedTag);
+            }
+        }
+    }
+
+    public void write(FriendlyByteBuf buffer) {
+        buffer.writeCollection(removed, FriendlyByteBuf::writeUtf);
+        buffer.writeVarInt(changes.size());
+        for (Change change : changes) {
+            buffer.writeUtf(change.key());
+            if (change.nested() == null) {
+                writeTag(buffer, change.value());
+            } else {
+                buffer.writeByte(NESTED_DELTA);
+                change.nested().write(buffer);
+            }
+        }
+    }
+
+    public static UpdateTagDelta read(FriendlyByteBuf buffer) {
+        List<String> removed = buffer.readList(FriendlyByteBuf::readUtf);
+        int size = buffer.readVarInt();
+        List<Change> changes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String key = buffer.readUtf();
+            byte type = buffer.readByte();
+            if (type == NESTED_DELTA) {
+                changes.add(new Change(key, null, read(buffer)));
+            } else {
+                changes.add(new Change(key, readTag(buffer, type), null));
+            }
+        }
+        return new UpdateTagDelta(changes, removed);
+    }
+
+    private static void writeTag(FriendlyByteBuf buffer, Tag tag) {
+        buffer.writeByte(tag.getId());
+        switch (tag.getId()) {
+            case Tag.TAG_BYTE -> buffer.writeByte(((ByteTag) tag).getAsByte());
+            case Tag.TAG_SHORT -> buffer.writeShort(((ShortTag) tag).getAsShort());
+            case Tag.TAG_INT -> buffer.writeVarInt(((IntTag) tag).getAsInt());
+            case Tag.TAG_LONG -> buffer.writeVarLong(((LongTag) tag).getAsLong());
+            case Tag.TAG_FLOAT -> buffer.writeFloat(((FloatTag) tag).getAsFloat());
+            case Tag.TAG_DOUBLE -> buffer.writeDouble(((DoubleTag) tag).getAsDouble());
+            case Tag.TAG_STRING -> buffer.writeUtf(tag.getAsString());
+            default -> {
+                try {
+                    tag.write(new ByteBufOutputStream(buffer));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    private static Tag readTag(FriendlyByteBuf buffer, byte type) {
+        return switch (type) {
+            case Tag.TAG_BYTE -> ByteTag.valueOf(buffer.readByte());
+            case Tag.TAG_SHORT -> ShortTag.valueOf(buffer.readShort());
+            case Tag.TAG_INT -> IntTag.valueOf(buffer.readVarInt());
+            case Tag.TAG_LONG -> LongTag.valueOf(buffer.readVarLong());
+            case Tag.TAG_FLOAT -> FloatTag.valueOf(buffer.readFloat());
+            case Tag.TAG_DOUBLE -> DoubleTag.valueOf(buffer.readDouble());
+            case Tag.TAG_STRING -> StringTag.valueOf(buffer.readUtf());
+            default -> {
+                try {
+                    yield TagTypes.getType(type).load(new ByteBufInputStream(buffer), 0, new NbtAccounter(MAX_TAG_SIZE));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    private record Change(String key, @Nullable Tag value, @Nullable UpdateTagDelta nested) {
+    }
+}
@@ -0,0 +1,182 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+
+/**
+ * Breadth first frontier for flood filling the world, such as by the Electric Pump and Fluidic Plenisher. Positions are stored packed as longs in a queue that persists
+ * between operations, and which positions have been visited is tracked in a bitmap per chunk section, so that each position only ever has to be looked at once.
+ */
+public class FloodFillFrontier {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    //One bit per block in a 16x16x16 section
+    private static final int SECTION_WORDS = 4_096 / Long.SIZE;
+
+    private final Long2ObjectMap<long[]> visitedSections = new Long2ObjectOpenHashMap<>();
+    private long[] queue = new long[DEFAULT_CAPACITY];
+    private int head;
+    private int size;
+    private int visited;
+
+    /**
+     * Marks the given position as visited and if it hadn't been visited before adds it to the end of the queue.
+     *
+     * @return {@code true} if the position hadn't been visited before.
+     */
+    public boolean visit(long pos) {
+        if (markVisited(pos)) {
+            enqueue(pos);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks the given position as visited without adding it to the queue.
+     *
+     * @return {@code true} if the position hadn't been visited before.
+     */
+    public boolean markVisited(long pos) {
+        int x = BlockPos.getX(pos), y = BlockPos.getY(pos), z = BlockPos.getZ(pos);
+        long[] section = visitedSections.computeIfAbsent(SectionPos.asLong(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(y),
+              SectionPos.blockToSectionCoord(z)), s -> new long[SECTION_WORDS]);
+        int index = sectionIndex(x, y, z);
+        long bit = 1L << index;
+        if ((section[index >>> 6] & bit) == 0) {
+            section[index >>> 6] |= bit;
+            visited++;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isVisited(long pos) {
+        int x = BlockPos.getX(pos), y = BlockPos.getY(pos), z = BlockPos.getZ(pos);
+        long[] section = visitedSections.get(SectionPos.asLong(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(y),
+              SectionPos.blockToSectionCoord(z)));
+        if (section == null) {
+            return false;
+        }
+        int index = sectionIndex(x, y, z);
+        return (section[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static int sectionIndex(int x, int y, int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | x & 15;
+    }
+
+    /**
+     * Adds the given position to the end of the queue, regardless of whether it has been visited.
+     */
+    public void enqueue(long pos) {
+        if (size == queue.length) {
+            //Grow the queue, unwrapping it so that the head is at the start again
+            long[] grown = new long[queue.length << 1];
+            int tail = queue.length - head;
+            System.arraycopy(queue, head, grown, 0, tail);
+            System.arraycopy(queue, 0, grown, tail, head);
+            queue = grown;
+            head = 0;
+        }
+        queue[(head + size) & (queue.length - 1)] = pos;
+        size++;
+    }
+
+    /**
+     * @return The position at the front of the queue.
+     */
+    public long firstLong() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return queue[head];
+    }
+
+    /**
+     * Removes and returns the position at the front of the queue.
+     */
+    public long dequeueLong() {
+        long first = firstLong();
+        head = (head + 1) & (queue.length - 1);
+        size--;
+        return first;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return The number of positions in the queue.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of positions that have been visited, including those that are still in the queue.
+     */
+    public int visitedCount() {
+        return visited;
+    }
+
+    /**
+     * Performs the given action on each position in the queue, from front to back.
+     */
+    public void forEachQueued(LongConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(queue[(head + i) & (queue.length - 1)]);
+        }
+    }
+
+    /**
+     * Performs the given action on each visited position, in no particular order.
+     */
+    public void forEachVisited(LongConsumer action) {
+        for (Long2ObjectMap.Entry<long[]> entry : visitedSections.long2ObjectEntrySet()) {
+            long sectionPos = entry.getLongKey();
+            int minX = SectionPos.sectionToBlockCoord(SectionPos.x(sectionPos));
+            int minY = SectionPos.sectionToBlockCoord(SectionPos.y(sectionPos));
+            int minZ = SectionPos.sectionToBlockCoord(SectionPos.z(sectionPos));
+            long[] section = entry.getValue();
+            for (int word = 0; word < SECTION_WORDS; word++) {
+                long bits = section[word];
+                while (bits != 0) {
+                    int index = word << 6 | Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    action.accept(BlockPos.asLong(minX + (index & 15), minY + (index >>> 8), minZ + (index >>> 4 & 15)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets which positions have been visited if the queue is empty, so that the flood fill can start over from any positions that get visited again.
+     *
+     * @return {@code true} if the queue was empty.
+     */
+    public boolean restartIfDrained() {
+        if (size == 0) {
+            if (visited > 0) {
+                clear();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    public void clear() {
+        visitedSections.clear();
+        if (queue.length > DEFAULT_CAPACITY) {
+            queue = new long[DEFAULT_CAPACITY];
+        }
+        head = 0;
+        size = 0;
+        visited = 0;
+    }
+}
@@ -0,0 +1,111 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index from keys to posting lists of dense int ids, such as the tags of the item types stored in a QIO frequency. Also keeps track of which postings each id is in, so
+ * that an id can be removed without having to recalculate the keys it was added with.
+ */
+public class IntPostingIndex<K> {
+
+    private final Map<K, Posting<K>> postings = new Object2ObjectOpenHashMap<>();
+    private Posting<?>[][] postingsById = new Posting<?>[0][];
+
+    /**
+     * Adds the given id to the posting list of the given key. The id must not already be in the index.
+     *
+     * @return {@code true} if the key did not have a posting list before.
+     */
+    public boolean add(int id, K key) {
+        Posting<K> posting = post(key, id);
+        setPostings(id, new Posting<?>[]{posting});
+        return posting.ids.size() == 1;
+    }
+
+    /**
+     * Adds the given id to the posting lists of all the given keys. The id must not already be in the index.
+     *
+     * @return {@code true} if any of the keys did not have a posting list before.
+     */
+    public boolean addAll(int id, Collection<K> keys) {
+        if (keys.isEmpty()) {
+            return false;
+        }
+        boolean addedKey = false;
+        Posting<?>[] idPostings = new Posting<?>[keys.size()];
+        int index = 0;
+        for (K key : keys) {
+            Posting<K> posting = post(key, id);
+            addedKey |= posting.ids.size() == 1;
+            idPostings[index++] = posting;
+        }
+        setPostings(id, idPostings);
+        return addedKey;
+    }
+
+    /**
+     * Removes the given id from all the posting lists it is in.
+     *
+     * @return {@code true} if any posting lists became empty and their keys were removed.
+     */
+    public boolean remove(int id) {
+        if (id >= postingsById.length || postingsById[id] == null) {
+            return false;
+        }
+        boolean removedKey = false;
+        for (Posting<?> posting : postingsById[id]) {
+            if (posting.ids.remove(id) && posting.ids.isEmpty()) {
+                postings.remove(posting.key);
+                removedKey = true;
+            }
+        }
+        postingsById[id] = null;
+        return removedKey;
+    }
+
+    public IntSet get(K key) {
+        Posting<K> posting = postings.get(key);
+        return posting == null ? IntSets.EMPTY_SET : IntSets.unmodifiable(posting.ids);
+    }
+
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+
+    public void clear() {
+        postings.clear();
+        Arrays.fill(postingsById, null);
+    }
+
+    private Posting<K> post(K key, int id) {
+        Posting<K> posting = postings.computeIfAbsent(key, Posting::new);
+        posting.ids.add(id);
+        return posting;
+    }
+
+    private void setPostings(int id, Posting<?>[] idPostings) {
+        if (id >= postingsById.length) {
+            postingsById = Arrays.copyOf(postingsById, Math.max(id + 1, 2 * postingsById.length));
+        }
+        postingsById[id] = idPostings;
+    }
+
+    private static class Posting<K> {
+
+        private final K key;
+        //Note: Most keys only have a handful of ids posted under them, so we start the sets out small
+        private final IntSet ids = new IntOpenHashSet(2);
+
+        private Posting(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package mekanism.common.lib.collection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min-heap of primitive longs ordered by a double priority that is stored alongside each element. The priority of an element is captured when it is added,
+ * so callers that need to lower the priority of an element can just add it again and skip the stale entry when it is polled.
+ */
+public class LongMinHeap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] elements;
+    private double[] priorities;
+    private int size;
+
+    public LongMinHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongMinHeap(int initialCapacity) {
+        initialCapacity = Math.max(1, initialCapacity);
+        elements = new long[initialCapacity];
+        priorities = new double[initialCapacity];
+    }
+
+    public void add(long element, double priority) {
+        if (size == elements.length) {
+            int newCapacity = elements.length << 1;
+            elements = Arrays.copyOf(elements, newCapacity);
+            priorities = Arrays.copyOf(priorities, newCapacity);
+        }
+        int index = size++;
+        //Sift up
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            elements[index] = elements[parent];
+            priorities[index] = priorities[parent];
+            index = parent;
+        }
+        elements[index] = element;
+        priorities[index] = priority;
+    }
+
+    /**
+     * @return The element with the lowest priority.
+     */
+    public long firstLong() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[0];
+    }
+
+    /**
+     * @return The priority of the element with the lowest priority.
+     */
+    public double firstPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return priorities[0];
+    }
+
+    /**
+     * Removes and returns the element with the lowest priority.
+     */
+    public long dequeueLong() {
+        long first = firstLong();
+        size--;
+        if (size > 0) {
+            long element = elements[size];
+            double priority = priorities[size];
+            int index = 0;
+            //Sift down
+            int half = size >>> 1;
+            while (index < half) {
+                int child = (index << 1) + 1;
+                int right = child + 1;
+                if (right < size && priorities[right] < priorities[child]) {
+                    child = right;
+                }
+                if (priority <= priorities[child]) {
+                    break;
+                }
+                elements[index] = elements[child];
+                priorities[index] = priorities[child];
+                index = child;
+            }
+            elements[index] = element;
+            priorities[index] = priority;
+        }
+        return first;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements from the heap while keeping the backing arrays so that the heap can be reused without reallocating.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
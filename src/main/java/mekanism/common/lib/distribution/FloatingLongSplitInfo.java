@@ -1,32 +1,50 @@
 package mekanism.common.lib.distribution;
 
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 
 public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
 
-    private FloatingLong amountToSplit;
+    private final FloatingLongAccumulator amountToSplit;
+    private final FloatingLongAccumulator sentSoFar = new FloatingLongAccumulator();
+    //Scratch accumulators so that sending to a target doesn't have to create any intermediary objects
+    private final FloatingLongAccumulator accepted = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator newShare = new FloatingLongAccumulator();
     private FloatingLong amountPerTarget;
-    private FloatingLong sentSoFar;
 
     public FloatingLongSplitInfo(FloatingLong amountToSplit, int totalTargets) {
         super(totalTargets);
-        this.amountToSplit = amountToSplit.copy();
+        this.amountToSplit = new FloatingLongAccumulator(amountToSplit);
         amountPerTarget = toSplitAmong == 0 ? FloatingLong.ZERO : amountToSplit.divide(toSplitAmong);
-        sentSoFar = FloatingLong.ZERO;
     }
 
     @Override
     public void send(FloatingLong amountNeeded) {
+        send(accepted.set(amountNeeded));
+    }
+
+    /**
+     * Marks the difference between the offered amount and the amount that was not accepted as sent, without having to create an object for the difference.
+     *
+     * @param offered   Amount that was offered to the target.
+     * @param remainder Amount that the target did not accept.
+     */
+    public void sendRemainder(FloatingLong offered, FloatingLong remainder) {
+        send(accepted.set(offered).subtract(remainder));
+    }
+
+    private void send(FloatingLongAccumulator amountNeeded) {
         //If we are giving it, then lower the amount we are checking/splitting
-        amountToSplit = amountToSplit.minusEqual(amountNeeded);
-        sentSoFar = sentSoFar.plusEqual(amountNeeded);
+        amountToSplit.subtract(amountNeeded);
+        sentSoFar.add(amountNeeded);
         toSplitAmong--;
         //Only recalculate it if it is not willing to accept/doesn't want the
         // full per side split
-        if (!amountNeeded.equals(amountPerTarget) && toSplitAmong != 0) {
-            FloatingLong amountPerLast = amountPerTarget;
-            amountPerTarget = amountToSplit.divide(toSplitAmong);
-            if (!amountPerChanged && !amountPerTarget.equals(amountPerLast)) {
+        if (!amountNeeded.valueEquals(amountPerTarget) && toSplitAmong != 0) {
+            newShare.set(amountToSplit).divide(toSplitAmong);
+            //Only create a new share object if the share actually changed
+            if (!newShare.valueEquals(amountPerTarget)) {
+                amountPerTarget = newShare.toFloatingLong();
                 amountPerChanged = true;
             }
         }
@@ -46,6 +64,6 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
 
     @Override
     public FloatingLong getTotalSent() {
-        return sentSoFar;
+        return sentSoFar.toFloatingLong();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package mekanism.common.lib.distribution;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import java.util.Arrays;
+
+/**
+ * Reusable alternative to {@link Target} for distributing a primitive amount fairly between a set of handlers. The handlers and the amounts they need are kept in
+ * arrays that get refilled each time rather than having to create a new target and box each amount.
+ * <br>
+ * Instead of repeatedly rechecking which handlers fit under the current split, the handlers are sorted by how much they need and then filled from smallest to largest.
+ * Any handler that needs less than the fair share of what is left gets everything it needs and the rest is split evenly between the remaining handlers.
+ *
+ * @param <HANDLER> The Handler this distributor sends to.
+ * @param <EXTRA>   Any extra information needed to send, such as the stack being sent.
+ */
+public abstract class LongDistributor<HANDLER, EXTRA> {
+
+    private final IntComparator byNeeded = (a, b) -> Long.compare(this.needed[a], this.needed[b]);
+    private Object[] handlers;
+    private long[] needed;
+    private int[] order;
+    private int handlerCount;
+
+    protected LongDistributor() {
+        this(8);
+    }
+
+    protected LongDistributor(int expectedSize) {
+        handlers = new Object[expectedSize];
+        needed = new long[expectedSize];
+        order = new int[expectedSize];
+    }
+
+    public void addHandler(HANDLER handler) {
+        if (handlerCount == handlers.length) {
+            int newSize = Math.max(8, handlerCount * 2);
+            handlers = Arrays.copyOf(handlers, newSize);
+            needed = Arrays.copyOf(needed, newSize);
+            order = Arrays.copyOf(order, newSize);
+        }
+        handlers[handlerCount++] = handler;
+    }
+
+    public int getHandlerCount() {
+        return handlerCount;
+    }
+
+    /**
+     * Distributes the given amount between all the handlers that have been added, and then clears the handlers so that they can be refilled for the next distribution.
+     *
+     * @param amountToSplit The amount to split between all the handlers.
+     * @param toSend        Any extra information such as the stack being sent.
+     *
+     * @return The amount that actually got sent.
+     */
+    @SuppressWarnings("unchecked")
+    public long distribute(long amountToSplit, EXTRA toSend) {
+        int count = handlerCount;
+        if (count == 0 || amountToSplit <= 0) {
+            clear();
+            return 0;
+        }
+        for (int i = 0; i < count; i++) {
+            needed[i] = Math.max(0, simulate((HANDLER) handlers[i], toSend));
+            order[i] = i;
+        }
+        IntArrays.quickSort(order, 0, count, byNeeded);
+        long remaining = amountToSplit;
+        for (int i = 0; i < count && remaining > 0; i++) {
+            int index = order[i];
+            int left = count - i;
+            //Offer the handler what it needs if that is less than the fair share of what is left, otherwise offer it the share plus any remainder.
+            // The remainder is added to the first target that can use it, and if it isn't fully used gets carried over to the next share
+            long toOffer = Math.min(needed[index], remaining / left + remaining % left);
+            if (toOffer > 0) {
+                //Only mark the amount that was actually accepted as sent, in case something changed from the simulation
+                remaining -= Math.max(0, Math.min(toOffer, accept((HANDLER) handlers[index], toSend, toOffer)));
+            }
+        }
+        clear();
+        return amountToSplit - remaining;
+    }
+
+    /**
+     * Removes all the handlers without shrinking the backing arrays.
+     */
+    public void clear() {
+        //Clear the references to the handlers so that we don't keep any of them loaded
+        Arrays.fill(handlers, 0, handlerCount, null);
+        handlerCount = 0;
+    }
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler to simulate inserting into.
+     * @param toSend  All the information we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract long simulate(HANDLER handler, EXTRA toSend);
+
+    /**
+     * Gives the handler the given amount.
+     *
+     * @param handler Handler to give to.
+     * @param toSend  All the information we are inserting.
+     * @param amount  Amount to give.
+     *
+     * @return The amount that was actually accepted.
+     */
+    protected abstract long accept(HANDLER handler, EXTRA toSend, long amount);
+}
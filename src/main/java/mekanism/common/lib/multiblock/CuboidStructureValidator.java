@@ -9,6 +9,7 @@ import mekanism.common.lib.math.voxel.VoxelCuboid;
 import mekanism.common.lib.math.voxel.VoxelCuboid.WallRelative;
 import mekanism.common.lib.multiblock.FormationProtocol.CasingType;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
+import mekanism.common.lib.multiblock.FormationProtocol.InteriorChanges;
 import mekanism.common.lib.multiblock.FormationProtocol.StructureRequirement;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.util.WorldUtils;
@@ -64,6 +65,45 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         return FormationResult.SUCCESS;
     }
 
+    @Override
+    public boolean loadPrevious(InteriorChanges changes) {
+        loadCuboid(changes.bounds());
+        for (BlockPos pos : changes.changed()) {
+            if (getStructureRequirement(pos) != StructureRequirement.INNER) {
+                return false;
+            }
+        }
+        //Validate the frame is still made up of the same nodes, in case the structure changed in a way we weren't notified about
+        for (BlockPos pos : changes.locations()) {
+            if (!structure.contains(pos)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public FormationResult validateChanges(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, InteriorChanges changes) {
+        //The frame hasn't changed, so we can just copy it, though we still need to find the caches that are stored by the frame
+        ctx.locations.addAll(changes.locations());
+        ctx.valves.addAll(changes.valves());
+        for (BlockPos pos : changes.locations()) {
+            findCache(ctx, structure.getTile(pos));
+        }
+        for (BlockPos pos : changes.internalLocations()) {
+            if (!changes.changed().contains(pos)) {
+                ctx.internalLocations.add(pos);
+            }
+        }
+        for (BlockPos pos : changes.changed()) {
+            FormationResult ret = validateNode(ctx, chunkMap, pos);
+            if (!ret.isFormed()) {
+                return ret;
+            }
+        }
+        return FormationResult.SUCCESS;
+    }
+
     /**
      * @param pos Mutable BlockPos
      */
@@ -117,6 +157,18 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
             // then we are not valid over all
             return FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_FRAME, pos);
         }
+        findCache(ctx, tile);
+        //Make sure the position is immutable before we store it
+        pos = pos.immutable();
+        ctx.locations.add(pos);
+        if (type.isValve()) {
+            ValveData data = new ValveData(pos, getSide(pos));
+            ctx.valves.add(data);
+        }
+        return FormationResult.SUCCESS;
+    }
+
+    private void findCache(FormationProtocol<T> ctx, IMultiblockBase tile) {
         if (tile instanceof IMultiblock<?> multiblockTile) {
             UUID uuid = multiblockTile.getCacheID();
             if (uuid != null && multiblockTile.getManager() == manager) {
@@ -129,14 +181,6 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
                 }
             }
         }
-        //Make sure the position is immutable before we store it
-        pos = pos.immutable();
-        ctx.locations.add(pos);
-        if (type.isValve()) {
-            ValveData data = new ValveData(pos, getSide(pos));
-            ctx.valves.add(data);
-        }
-        return FormationResult.SUCCESS;
     }
 
     @Override
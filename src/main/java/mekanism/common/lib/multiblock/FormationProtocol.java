@@ -17,6 +17,8 @@ import mekanism.api.radiation.IRadiationManager;
 import mekanism.api.text.EnumColor;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
+import mekanism.common.lib.math.voxel.VoxelCuboid;
+import mekanism.common.lib.math.voxel.VoxelCuboid.CuboidRelative;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.lib.multiblock.MultiblockCache.RejectContents;
 import mekanism.common.util.EnumUtils;
@@ -29,6 +31,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
 
 public class FormationProtocol<T extends MultiblockData> {
 
@@ -52,14 +55,14 @@ public class FormationProtocol<T extends MultiblockData> {
         manager = tile.getManager();
     }
 
-    private StructureResult<T> buildStructure(IStructureValidator<T> validator) {
+    private StructureResult<T> buildStructure(IStructureValidator<T> validator, @Nullable InteriorChanges interiorChanges) {
         T structure = pointer.createMultiblock();
         if (!structure.setShape(validator.getShape())) {
             return fail(FormationResult.FAIL);
         }
 
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
-        FormationResult result = validator.validate(this, chunkMap);
+        FormationResult result = interiorChanges == null ? validator.validate(this, chunkMap) : validator.validateChanges(this, chunkMap, interiorChanges);
         if (!result.isFormed()) {
             return fail(result);
         }
@@ -78,10 +81,15 @@ public class FormationProtocol<T extends MultiblockData> {
         IStructureValidator<T> validator = manager.createValidator();
         Level world = pointer.getTileWorld();
         validator.init(world, manager, structure);
-        if (!validator.precheck()) {
-            return FormationResult.FAIL;
+        InteriorChanges interiorChanges = structure.takeInteriorChanges();
+        if (interiorChanges == null || !validator.loadPrevious(interiorChanges)) {
+            //If more than just the interior changed, or the validator isn't able to only check the changed positions, find and validate the entire structure
+            interiorChanges = null;
+            if (!validator.precheck()) {
+                return FormationResult.FAIL;
+            }
         }
-        StructureResult<T> result = buildStructure(validator);
+        StructureResult<T> result = buildStructure(validator, interiorChanges);
         T structureFound = result.structureFound;
 
         BlockPos pointerPos = pointer.getTilePos();
@@ -250,6 +258,30 @@ public class FormationProtocol<T extends MultiblockData> {
     private record StructureResult<T extends MultiblockData>(FormationResult result, T structureFound, Map<UUID, MultiblockCache<T>> idsFound) {
     }
 
+    /**
+     * Represents the last formed version of a structure, and the positions inside it that have changed since then. As the frame of the structure hasn't changed, the
+     * bounds, frame locations, and valves can be reused, and only the changed positions need to be revalidated.
+     *
+     * @param changed Positions strictly inside the bounds that have changed.
+     */
+    public record InteriorChanges(VoxelCuboid bounds, Set<BlockPos> locations, Set<BlockPos> internalLocations, Set<ValveData> valves, Set<BlockPos> changed) {
+
+        public InteriorChanges(MultiblockData multiblock) {
+            this(multiblock.getBounds(), multiblock.locations, multiblock.internalLocations, multiblock.valves, new ObjectOpenHashSet<>());
+        }
+
+        /**
+         * @return {@code false} if the position isn't strictly inside the bounds, and the entire structure needs to be revalidated.
+         */
+        public boolean addChange(BlockPos pos) {
+            if (bounds.getRelativeLocation(pos) == CuboidRelative.INSIDE) {
+                changed.add(pos.immutable());
+                return true;
+            }
+            return false;
+        }
+    }
+
     public enum CasingType {
         FRAME,
         VALVE,
@@ -3,6 +3,7 @@ package mekanism.common.lib.multiblock;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
+import mekanism.common.lib.multiblock.FormationProtocol.InteriorChanges;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 
@@ -14,6 +15,23 @@ public interface IStructureValidator<T extends MultiblockData> {
 
     FormationResult validate(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap);
 
+    /**
+     * Loads the shape of the structure from when it was last formed, so that only the interior positions that have changed since then need to be validated instead of
+     * the entire structure.
+     *
+     * @return {@code true} if only the changed positions need to be validated, or {@code false} if the entire structure needs to be validated.
+     */
+    default boolean loadPrevious(InteriorChanges changes) {
+        return false;
+    }
+
+    /**
+     * Validates the positions that have changed since the structure was last formed. Only called if {@link #loadPrevious(InteriorChanges)} returned {@code true}.
+     */
+    default FormationResult validateChanges(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, InteriorChanges changes) {
+        return validate(ctx, chunkMap);
+    }
+
     FormationResult postcheck(T structure, Long2ObjectMap<ChunkAccess> chunkMap);
 
     IShape getShape();
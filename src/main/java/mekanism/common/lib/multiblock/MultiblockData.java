@@ -87,6 +87,11 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     @ContainerSync
     private boolean formed;
     public boolean recheckStructure;
+    /**
+     * Positions that changed and caused {@link #recheckStructure} to be set, or {@code null} if it isn't known what changed.
+     */
+    @Nullable
+    private Set<BlockPos> recheckPositions;
 
     private int currentRedstoneLevel;
 
@@ -272,6 +277,32 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
         inventoryID = null;
         formed = false;
         recheckStructure = false;
+        recheckPositions = null;
+    }
+
+    /**
+     * Marks the structure as needing to be rechecked because the given position changed.
+     */
+    public void recheckPosition(BlockPos changedPos) {
+        if (!recheckStructure) {
+            recheckStructure = true;
+            recheckPositions = new ObjectOpenHashSet<>();
+        }
+        if (recheckPositions != null) {
+            recheckPositions.add(changedPos.immutable());
+        }
+    }
+
+    /**
+     * Gets the positions that changed since the structure was last rechecked, and clears them.
+     *
+     * @return Changed positions or {@code null} if the entire structure needs to be rechecked.
+     */
+    @Nullable
+    public Set<BlockPos> takeRecheckPositions() {
+        Set<BlockPos> positions = recheckPositions;
+        recheckPositions = null;
+        return positions;
     }
 
     public void meltdownHappened(Level world) {
@@ -3,6 +3,7 @@ package mekanism.common.lib.multiblock;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Collection;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -14,6 +15,7 @@ import java.util.function.ToIntFunction;
 import mekanism.common.lib.math.voxel.BlockPosBuilder;
 import mekanism.common.lib.math.voxel.VoxelPlane;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
+import mekanism.common.lib.multiblock.FormationProtocol.InteriorChanges;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -21,6 +23,7 @@ import net.minecraft.core.Vec3i;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
 
 public class Structure {
 
@@ -38,6 +41,8 @@ public class Structure {
 
     private MultiblockData multiblockData;
     private IMultiblock<?> controller;
+    @Nullable
+    private InteriorChanges interiorChanges;
 
     private Structure() {
     }
@@ -96,6 +101,7 @@ public class Structure {
     public void markForUpdate(Level world, boolean invalidate) {
         updateTimestamp = world.getGameTime();
         didUpdate = false;
+        interiorChanges = null;
         if (invalidate) {
             invalidate(world);
         } else {
@@ -111,6 +117,43 @@ public class Structure {
         tick(tile, tryValidate);
     }
 
+    /**
+     * Marks the structure as needing to be updated because the given position changed. If the position is inside the formed multiblock and nothing else changes
+     * before the update, then only the changed positions need to be revalidated instead of the entire structure.
+     */
+    public void markInteriorForUpdate(Level world, BlockPos changedPos) {
+        InteriorChanges changes = interiorChanges;
+        if (changes == null && valid && multiblockData != null && multiblockData.isFormed()) {
+            changes = new InteriorChanges(multiblockData);
+        }
+        if (changes != null && changes.addChange(changedPos)) {
+            markForUpdate(world, false);
+            interiorChanges = changes;
+        } else {
+            markForUpdate(world, true);
+        }
+    }
+
+    public <TILE extends BlockEntity & IMultiblockBase> void doImmediateUpdate(TILE tile, Collection<BlockPos> changedPositions, boolean tryValidate) {
+        for (BlockPos changedPos : changedPositions) {
+            markInteriorForUpdate(tile.getLevel(), changedPos);
+        }
+        //Pretend it got marked for update last tick so that when we call tick it will update
+        updateTimestamp = tile.getLevel().getGameTime() - 1;
+        didUpdate = false;
+        tick(tile, tryValidate);
+    }
+
+    /**
+     * Gets the interior changes since the structure was last formed, and clears them so that they only get used by a single update.
+     */
+    @Nullable
+    InteriorChanges takeInteriorChanges() {
+        InteriorChanges changes = interiorChanges;
+        interiorChanges = null;
+        return changes;
+    }
+
     public <TILE extends BlockEntity & IMultiblockBase> void tick(TILE tile, boolean tryValidate) {
         if (!didUpdate && updateTimestamp == tile.getLevel().getGameTime() - 1) {
             didUpdate = true;
@@ -206,6 +249,7 @@ public class Structure {
     public void invalidate(Level world) {
         removeMultiblock(world);
         valid = false;
+        interiorChanges = null;
     }
 
     public void removeMultiblock(Level world) {
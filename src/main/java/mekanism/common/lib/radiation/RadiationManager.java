@@ -4,14 +4,16 @@ import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
@@ -108,11 +110,18 @@ public class RadiationManager implements IRadiationManager {
 
     public static final double BASELINE = 0.000_000_100; // 100 nSv/h
     public static final double MIN_MAGNITUDE = 0.000_010; // 10 uSv/h
+    /**
+     * How much sources are allowed to decay by since the saved data was last marked as dirty before we mark it as dirty again. This avoids marking the data as dirty
+     * every time the sources decay, at the cost of sources being persisted with a magnitude that is at most one percent higher than their actual magnitude.
+     */
+    private static final double UNSAVED_DECAY_THRESHOLD = 0.99;
 
     private boolean loaded;
+    private double unsavedDecay = 1;
 
     private final Table<Chunk3D, Coord4D, RadiationSource> radiationTable = HashBasedTable.create();
     private final Table<Chunk3D, Coord4D, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    private final RadiationSourceIndex sourceIndex = new RadiationSourceIndex(radiationTable);
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Map<UUID, PreviousRadiationData> playerEnvironmentalExposureMap = new Object2ObjectOpenHashMap<>();
@@ -138,6 +147,7 @@ public class RadiationManager implements IRadiationManager {
     private void markDirty() {
         if (dataHandler != null) {
             dataHandler.setDirty();
+            unsavedDecay = 1;
         }
     }
 
@@ -183,6 +193,7 @@ public class RadiationManager implements IRadiationManager {
         Map<Coord4D, RadiationSource> chunkSources = radiationTable.row(chunk);
         if (!chunkSources.isEmpty()) {
             chunkSources.clear();
+            sourceIndex.invalidate(chunk);
             markDirty();
             updateClientRadiationForAll(chunk.dimension);
         }
@@ -193,6 +204,7 @@ public class RadiationManager implements IRadiationManager {
         Chunk3D chunk = new Chunk3D(coord);
         if (radiationTable.contains(chunk, coord)) {
             radiationTable.remove(chunk, coord);
+            sourceIndex.invalidate(chunk);
             markDirty();
             updateClientRadiationForAll(coord.dimension);
         }
@@ -210,14 +222,12 @@ public class RadiationManager implements IRadiationManager {
     public LevelAndMaxMagnitude getRadiationLevelAndMaxMagnitude(Coord4D coord) {
         double level = BASELINE;
         double maxMagnitude = BASELINE;
-        for (Chunk3D chunk : new Chunk3D(coord).expand(MekanismConfig.general.radiationChunkCheckRadius.get())) {
-            for (Map.Entry<Coord4D, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                // we only compute exposure when within the MAX_RANGE bounds
-                if (entry.getKey().distanceTo(coord) <= MAX_RANGE.getAsInt()) {
-                    RadiationSource source = entry.getValue();
-                    level += computeExposure(coord, source);
-                    maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
-                }
+        int maxRange = MAX_RANGE.getAsInt();
+        for (RadiationSource source : sourceIndex.getSourcesInRange(coord, MekanismConfig.general.radiationChunkCheckRadius.get(), maxRange)) {
+            // we only compute exposure when within the MAX_RANGE bounds
+            if (source.getPos().distanceTo(coord) <= maxRange) {
+                level += computeExposure(coord, source);
+                maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
             }
         }
         return new LevelAndMaxMagnitude(level, maxMagnitude);
@@ -228,10 +238,12 @@ public class RadiationManager implements IRadiationManager {
         if (!isRadiationEnabled()) {
             return;
         }
-        Map<Coord4D, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(coord));
+        Chunk3D chunk = new Chunk3D(coord);
+        Map<Coord4D, RadiationSource> radiationSourceMap = radiationTable.row(chunk);
         RadiationSource src = radiationSourceMap.get(coord);
         if (src == null) {
             radiationSourceMap.put(coord, new RadiationSource(coord, magnitude));
+            sourceIndex.invalidate(chunk);
         } else {
             src.radiate(magnitude);
         }
@@ -290,6 +302,7 @@ public class RadiationManager implements IRadiationManager {
     public void clearSources() {
         if (!radiationTable.isEmpty()) {
             radiationTable.clear();
+            sourceIndex.clear();
             markDirty();
             updateClientRadiationForAll(ConstantPredicates.alwaysTrue());
         }
@@ -327,6 +340,18 @@ public class RadiationManager implements IRadiationManager {
         }
     }
 
+    /**
+     * Checks if the given player may have been exposed to any radiation, either because they are in range of a source, or because they were last sent an exposure
+     * above the baseline.
+     */
+    private boolean mayBeExposed(ServerPlayer player) {
+        PreviousRadiationData previousRadiationData = playerEnvironmentalExposureMap.get(player.getUUID());
+        if (previousRadiationData != null && previousRadiationData.magnitude() > BASELINE) {
+            return true;
+        }
+        return sourceIndex.getSourcesInRange(new Coord4D(player), MekanismConfig.general.radiationChunkCheckRadius.get(), MAX_RANGE.getAsInt()).length > 0;
+    }
+
     public void updateClientRadiation(ServerPlayer player) {
         LevelAndMaxMagnitude levelAndMaxMagnitude = getRadiationLevelAndMaxMagnitude(player);
         PreviousRadiationData previousRadiationData = playerEnvironmentalExposureMap.get(player.getUUID());
@@ -433,16 +458,28 @@ public class RadiationManager implements IRadiationManager {
             return;
         }
         // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
-        if (RAND.nextInt(20) == 0) {
-            Collection<RadiationSource> sources = radiationTable.values();
-            if (!sources.isEmpty()) {
-                // remove if source gets too low
-                sources.removeIf(RadiationSource::decay);
-                //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
+        if (RAND.nextInt(20) == 0 && !radiationTable.isEmpty()) {
+            double decayRate = MekanismConfig.general.radiationSourceDecayRate.get();
+            Set<ResourceKey<Level>> decayedDimensions = new ReferenceOpenHashSet<>();
+            boolean removedAny = false;
+            for (Iterator<RadiationSource> iterator = radiationTable.values().iterator(); iterator.hasNext(); ) {
+                RadiationSource source = iterator.next();
+                ResourceKey<Level> dimension = source.getPos().dimension;
+                decayedDimensions.add(dimension);
+                if (source.decay(decayRate)) {
+                    // remove if source gets too low
+                    iterator.remove();
+                    sourceIndex.invalidate(dimension);
+                    removedAny = true;
+                }
+            }
+            unsavedDecay *= decayRate;
+            if (removedAny || unsavedDecay < UNSAVED_DECAY_THRESHOLD) {
+                //Only mark dirty if sources were removed or the magnitudes have changed enough since we last marked it as dirty
                 markDirty();
-                //Update radiation levels for any players where it has changed
-                updateClientRadiationForAll(ConstantPredicates.alwaysTrue());
             }
+            //Update radiation levels for any players that are near sources that decayed or that were last sent a level above the baseline
+            updateClientRadiationForAll(player -> decayedDimensions.contains(player.level().dimension()) && mayBeExposed(player));
         }
     }
 
@@ -463,6 +500,7 @@ public class RadiationManager implements IRadiationManager {
     public void reset() {
         //Clear the table directly instead of via the method, so it doesn't mark it as dirty
         radiationTable.clear();
+        sourceIndex.clear();
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
         meltdowns.clear();
@@ -607,6 +645,7 @@ public class RadiationManager implements IRadiationManager {
                 for (RadiationSource source : loadedSources) {
                     manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
                 }
+                manager.sourceIndex.clear();
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = entry.getValue();
                     manager.meltdowns.computeIfAbsent(entry.getKey(), id -> new ArrayList<>(meltdowns.size())).addAll(meltdowns);
@@ -37,7 +37,16 @@ public class RadiationSource implements IRadiationSource {
 
     @Override
     public boolean decay() {
-        magnitude *= MekanismConfig.general.radiationSourceDecayRate.get();
+        return decay(MekanismConfig.general.radiationSourceDecayRate.get());
+    }
+
+    /**
+     * Decays the source's radiation level by the given rate.
+     *
+     * @return {@code true} if the source's magnitude is now low enough that it should be removed.
+     */
+    public boolean decay(double decayRate) {
+        magnitude *= decayRate;
         return magnitude < RadiationManager.MIN_MAGNITUDE;
     }
 
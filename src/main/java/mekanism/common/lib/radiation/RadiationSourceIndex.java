@@ -0,0 +1,118 @@
+package mekanism.common.lib.radiation;
+
+import com.google.common.collect.Table;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import mekanism.api.Chunk3D;
+import mekanism.api.Coord4D;
+import mekanism.api.annotations.NothingNullByDefault;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * Lazily computed per chunk cache of the radiation sources that may be in range of any position in the chunk. This lets exposure queries only look at the sources
+ * that can actually affect them instead of checking every chunk in the check radius. Entries only depend on which sources exist and not on their magnitudes, so they
+ * only have to be invalidated when a source is added or removed nearby.
+ */
+@NothingNullByDefault
+class RadiationSourceIndex {
+
+    private static final RadiationSource[] NO_SOURCES = new RadiationSource[0];
+    /**
+     * Max number of chunks to cache per dimension before we clear the cache, so that we don't slowly keep growing as entities move around the world.
+     */
+    private static final int MAX_CACHED_CHUNKS = 4_096;
+
+    private final Table<Chunk3D, Coord4D, RadiationSource> radiationTable;
+    private final Map<ResourceKey<Level>, Long2ObjectMap<RadiationSource[]>> sourcesInRange = new Object2ObjectOpenHashMap<>();
+    private int cachedChunkRadius = -1;
+
+    RadiationSourceIndex(Table<Chunk3D, Coord4D, RadiationSource> radiationTable) {
+        this.radiationTable = radiationTable;
+    }
+
+    /**
+     * Gets the sources that may be in range of the given position.
+     *
+     * @param chunkRadius Radius in chunks that sources are checked in.
+     * @param maxRange    Max distance in blocks a source can be from a position and still affect it.
+     */
+    RadiationSource[] getSourcesInRange(Coord4D coord, int chunkRadius, int maxRange) {
+        if (radiationTable.isEmpty()) {
+            return NO_SOURCES;
+        } else if (chunkRadius != cachedChunkRadius) {
+            //The config changed, our cached ranges are no longer valid
+            sourcesInRange.clear();
+            cachedChunkRadius = chunkRadius;
+        }
+        Long2ObjectMap<RadiationSource[]> dimensionSources = sourcesInRange.computeIfAbsent(coord.dimension, dimension -> new Long2ObjectOpenHashMap<>());
+        int chunkX = SectionPos.blockToSectionCoord(coord.getX());
+        int chunkZ = SectionPos.blockToSectionCoord(coord.getZ());
+        long chunk = ChunkPos.asLong(chunkX, chunkZ);
+        RadiationSource[] sources = dimensionSources.get(chunk);
+        if (sources == null) {
+            if (dimensionSources.size() >= MAX_CACHED_CHUNKS) {
+                dimensionSources.clear();
+            }
+            sources = collectSourcesInRange(coord.dimension, chunkX, chunkZ, chunkRadius, maxRange);
+            dimensionSources.put(chunk, sources);
+        }
+        return sources;
+    }
+
+    private RadiationSource[] collectSourcesInRange(ResourceKey<Level> dimension, int chunkX, int chunkZ, int chunkRadius, int maxRange) {
+        //Bounds of the target chunk, we precompute the cutoff against the closest point in the chunk to the source so that we can skip sources that will never
+        // be close enough to matter for any position in the chunk
+        int minX = SectionPos.sectionToBlockCoord(chunkX);
+        int maxX = SectionPos.sectionToBlockCoord(chunkX, 15);
+        int minZ = SectionPos.sectionToBlockCoord(chunkZ);
+        int maxZ = SectionPos.sectionToBlockCoord(chunkZ, 15);
+        long maxRangeSquared = (long) maxRange * maxRange;
+        List<RadiationSource> sources = new ArrayList<>();
+        for (Chunk3D checkChunk : new Chunk3D(dimension, chunkX, chunkZ).expand(chunkRadius)) {
+            for (RadiationSource source : radiationTable.row(checkChunk).values()) {
+                Coord4D pos = source.getPos();
+                long dx = Math.max(0, Math.max(minX - pos.getX(), pos.getX() - maxX));
+                long dz = Math.max(0, Math.max(minZ - pos.getZ(), pos.getZ() - maxZ));
+                if (dx * dx + dz * dz <= maxRangeSquared) {
+                    sources.add(source);
+                }
+            }
+        }
+        return sources.isEmpty() ? NO_SOURCES : sources.toArray(NO_SOURCES);
+    }
+
+    /**
+     * Invalidates the cached sources of any chunks that may have a source in the given chunk in range.
+     */
+    void invalidate(Chunk3D chunk) {
+        Long2ObjectMap<RadiationSource[]> dimensionSources = sourcesInRange.get(chunk.dimension);
+        if (dimensionSources != null && !dimensionSources.isEmpty()) {
+            //Note: We use the cached radius as that is what the cached entries were calculated with
+            if (cachedChunkRadius == 1) {
+                //Matches the special case in Chunk3D#expand for a radius of one
+                dimensionSources.remove(chunk.toLong());
+                return;
+            }
+            for (int x = chunk.x - cachedChunkRadius; x <= chunk.x + cachedChunkRadius; x++) {
+                for (int z = chunk.z - cachedChunkRadius; z <= chunk.z + cachedChunkRadius; z++) {
+                    dimensionSources.remove(ChunkPos.asLong(x, z));
+                }
+            }
+        }
+    }
+
+    void invalidate(ResourceKey<Level> dimension) {
+        sourcesInRange.remove(dimension);
+    }
+
+    void clear() {
+        sourcesInRange.clear();
+    }
+}
@@ -34,6 +34,17 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
 
     protected abstract float computeContentScale();
 
+    /**
+     * @return {@code true} if the buffer is empty and nothing was transferred during the last tick.
+     */
+    protected abstract boolean isBufferIdle();
+
+    @Override
+    public boolean needsTicking() {
+        //Note: We only can skip ticking if our scale has finished animating down to zero, and we don't have a pending transfer event
+        return needsUpdate || currentScale != 0 || !isBufferIdle();
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
@@ -194,6 +194,18 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     public void onUpdate() {
     }
 
+    /**
+     * Checks if this network currently has anything to do in {@link #onUpdate()}. Networks that are idle are skipped by the {@link TransmitterNetworkRegistry} so
+     * that worlds with lots of small independent networks don't have to pay for calling into all of them every tick.
+     *
+     * @return {@code true} if {@link #onUpdate()} should be called this tick.
+     *
+     * @apiNote Only called on the server
+     */
+    public boolean needsTicking() {
+        return true;
+    }
+
     public Set<TRANSMITTER> getTransmitters() {
         return transmitters;
     }
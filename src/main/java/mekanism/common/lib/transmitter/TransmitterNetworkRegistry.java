@@ -132,7 +132,9 @@ public class TransmitterNetworkRegistry {
             assignOrphans();
             commitChanges();
             for (DynamicNetwork<?, ?, ?> net : networks) {
-                net.onUpdate();
+                if (net.needsTicking()) {
+                    net.onUpdate();
+                }
             }
         }
     }
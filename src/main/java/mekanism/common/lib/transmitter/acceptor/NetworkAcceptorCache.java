@@ -15,12 +15,24 @@ import net.minecraftforge.common.util.LazyOptional;
 
 public class NetworkAcceptorCache<ACCEPTOR> {
 
+    /**
+     * Max number of emit passes to wait before checking a saturated acceptor again.
+     */
+    private static final int MAX_SATURATED_BACKOFF = 20;
+
     private final Map<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    //Note: Keyed by the acceptor's position, so that an acceptor that is connected to on multiple sides only backs off once per pass
+    private final Map<BlockPos, SaturatedAcceptor> saturatedAcceptors = new Object2ObjectOpenHashMap<>();
+    private long emitPass;
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         LazyOptional<ACCEPTOR> acceptor = transmitter.canConnectToAcceptor(side) ? transmitter.getAcceptor(side) : LazyOptional.empty();
         BlockPos acceptorPos = transmitter.getTilePos().relative(side);
+        if (!saturatedAcceptors.isEmpty()) {
+            //The acceptor on this side changed or got refreshed by its listener, so make sure we check it again right away
+            saturatedAcceptors.remove(acceptorPos);
+        }
         if (acceptor.isPresent()) {
             cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
         } else if (cachedAcceptors.containsKey(acceptorPos)) {
@@ -70,12 +82,64 @@ public class NetworkAcceptorCache<ACCEPTOR> {
                 }
             }
             changedAcceptors.clear();
+            if (!saturatedAcceptors.isEmpty()) {
+                //Stop tracking the saturation of any acceptors that are no longer connected to the network
+                saturatedAcceptors.keySet().removeIf(pos -> !cachedAcceptors.containsKey(pos));
+            }
         }
     }
 
     public void deregister() {
         cachedAcceptors.clear();
         changedAcceptors.clear();
+        saturatedAcceptors.clear();
+    }
+
+    /**
+     * Starts a new pass of emitting to the acceptors, advancing the back-off of any saturated acceptors.
+     */
+    public void startEmitting() {
+        emitPass++;
+    }
+
+    /**
+     * Checks if the acceptor at the given position should be offered anything this emit pass, or if it didn't accept anything recently and should be skipped until its
+     * back-off has passed.
+     */
+    public boolean shouldPoll(BlockPos acceptorPos) {
+        SaturatedAcceptor saturated = saturatedAcceptors.get(acceptorPos);
+        return saturated == null || emitPass >= saturated.nextPoll;
+    }
+
+    /**
+     * Updates whether the acceptor at the given position is saturated. Each time an acceptor rejects what is offered to it in a row, the number of passes until it is
+     * checked again doubles up to {@link #MAX_SATURATED_BACKOFF}.
+     *
+     * @param acceptorPos Position of the acceptor that was checked.
+     * @param accepted    {@code true} if the acceptor is able to accept what is being emitted on any of the sides it is connected to.
+     *
+     * @implNote The back-off only increases once per emit pass, even if this gets called multiple times for the same position in a single pass.
+     */
+    public void updateSaturation(BlockPos acceptorPos, boolean accepted) {
+        if (accepted) {
+            if (!saturatedAcceptors.isEmpty()) {
+                saturatedAcceptors.remove(acceptorPos);
+            }
+        } else {
+            SaturatedAcceptor saturated = saturatedAcceptors.computeIfAbsent(acceptorPos, pos -> new SaturatedAcceptor());
+            if (saturated.lastUpdated != emitPass) {
+                saturated.lastUpdated = emitPass;
+                saturated.backoff = Math.min(2 * saturated.backoff, MAX_SATURATED_BACKOFF);
+                saturated.nextPoll = emitPass + saturated.backoff;
+            }
+        }
+    }
+
+    /**
+     * Makes all saturated acceptors get checked again on the next emit pass, for example because what is being emitted changed.
+     */
+    public void clearSaturated() {
+        saturatedAcceptors.clear();
     }
 
     /**
@@ -105,4 +169,11 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         //TODO: Do this better?
         return cachedAcceptors.get(pos).keySet();
     }
-}
\ No newline at end of file
+
+    private static class SaturatedAcceptor {
+
+        private int backoff = 1;
+        private long nextPoll;
+        private long lastUpdated = Long.MIN_VALUE;
+    }
+}
@@ -1,84 +1,153 @@
 package mekanism.common.network.to_client;
 
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import mekanism.common.content.qio.QIOGlobalItemLookup;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
+import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
-import mekanism.common.network.BasePacketHandler;
 import mekanism.common.network.IMekanismPacket;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * Syncs the contents of a QIO frequency to a player viewing it. Types are referred to by the session scoped handles from {@link QIOGlobalItemLookup}, and the item and
+ * UUID of a type are only sent the first time a player is sent the handle. Updates contain the change in count of each type rather than the new count, and the
+ * entries of an update are serialized once and then shared between all the players viewing the frequency.
+ */
 //TODO - 1.19: Split this packet as it is possible for it to technically become too large and cause a crash
-// Also ideally we only would sync the hashed item for types we haven't sent a given client yet so that then
-// we can also send a smaller packet to each client until they disconnect and then we clear what packets they know
 public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
 
     private final Type type;
-    private final Object2LongMap<UUIDAwareHashedItem> itemMap;
+    private final List<TypeDefinition> definitions;
+    @Nullable
+    private final SyncEntries entries;
     private final long countCapacity;
     private final int typeCapacity;
+    //Client side only
+    private int[] handles;
+    private long[] values;
 
-    private PacketQIOItemViewerGuiSync(Type type, Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    private PacketQIOItemViewerGuiSync(Type type, List<TypeDefinition> definitions, @Nullable SyncEntries entries, long countCapacity, int typeCapacity) {
         this.type = type;
-        this.itemMap = itemMap;
+        this.definitions = definitions;
+        this.entries = entries;
         this.countCapacity = countCapacity;
         this.typeCapacity = typeCapacity;
     }
 
-    public static PacketQIOItemViewerGuiSync batch(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.BATCH, itemMap, countCapacity, typeCapacity);
+    public static PacketQIOItemViewerGuiSync batch(ServerPlayer player, SyncEntries entries, long countCapacity, int typeCapacity) {
+        return create(Type.BATCH, player, entries, countCapacity, typeCapacity);
     }
 
-    public static PacketQIOItemViewerGuiSync update(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, itemMap, countCapacity, typeCapacity);
+    public static PacketQIOItemViewerGuiSync update(ServerPlayer player, SyncEntries entries, long countCapacity, int typeCapacity) {
+        return create(Type.UPDATE, player, entries, countCapacity, typeCapacity);
     }
 
     public static PacketQIOItemViewerGuiSync kill() {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, null, 0, 0);
+        return new PacketQIOItemViewerGuiSync(Type.KILL, Collections.emptyList(), null, 0, 0);
+    }
+
+    private static PacketQIOItemViewerGuiSync create(Type type, ServerPlayer player, SyncEntries entries, long countCapacity, int typeCapacity) {
+        if (entries.delta != (type == Type.UPDATE)) {
+            throw new IllegalArgumentException("Batch packets must be created with absolute entries, and update packets with delta entries.");
+        }
+        List<TypeDefinition> definitions = new ArrayList<>();
+        UUID playerUUID = player.getUUID();
+        for (int i = 0, size = entries.size(); i < size; i++) {
+            int handle = entries.handles.getInt(i);
+            if (QIOGlobalItemLookup.INSTANCE.markSyncHandleKnown(playerUUID, handle)) {
+                definitions.add(new TypeDefinition(handle, entries.types.get(i)));
+            }
+        }
+        return new PacketQIOItemViewerGuiSync(type, definitions, entries, countCapacity, typeCapacity);
     }
 
     @Override
     public void handle(NetworkEvent.Context context) {
+        //Note: We need to keep track of any new handles even if the player is no longer viewing the frequency, as the server now assumes we know them
+        for (TypeDefinition definition : definitions) {
+            QIOGlobalItemLookup.INSTANCE.addClientSyncHandle(definition.handle(), definition.type());
+        }
         LocalPlayer player = Minecraft.getInstance().player;
         if (player != null && player.containerMenu instanceof QIOItemViewerContainer container) {
             switch (type) {
-                case BATCH -> container.handleBatchUpdate(itemMap, countCapacity, typeCapacity);
-                case UPDATE -> container.handleUpdate(itemMap, countCapacity, typeCapacity);
+                case BATCH -> container.handleBatchUpdate(resolveEntries(), countCapacity, typeCapacity);
+                case UPDATE -> container.handleUpdate(resolveEntries(), countCapacity, typeCapacity);
                 case KILL -> container.handleKill();
             }
         }
     }
 
+    private Object2LongMap<UUIDAwareHashedItem> resolveEntries() {
+        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(handles.length);
+        for (int i = 0; i < handles.length; i++) {
+            UUIDAwareHashedItem itemType = QIOGlobalItemLookup.INSTANCE.getClientTypeBySyncHandle(handles[i]);
+            //Shouldn't be null unless something failed, but if it does try to handle it relatively gracefully
+            if (itemType != null) {
+                map.put(itemType, values[i]);
+            }
+        }
+        return map;
+    }
+
     @Override
     public void encode(FriendlyByteBuf buffer) {
         buffer.writeEnum(type);
         if (type == Type.BATCH || type == Type.UPDATE) {
             buffer.writeVarLong(countCapacity);
             buffer.writeVarInt(typeCapacity);
-            BasePacketHandler.writeMap(buffer, itemMap, (key, value, buf) -> {
-                buf.writeItem(key.getInternalStack());
-                //Shouldn't be null unless something failed, but if it does try to handle it relatively gracefully
-                BasePacketHandler.writeOptional(buf, key.getUUID(), FriendlyByteBuf::writeUUID);
-                buf.writeVarLong(value);
+            buffer.writeCollection(definitions, (buf, definition) -> {
+                buf.writeVarInt(definition.handle());
+                buf.writeItem(definition.type().getInternalStack());
+                buf.writeUUID(definition.type().getUUID());
             });
+            //Note: entries is never null for batch or update packets
+            buffer.writeVarInt(entries.size());
+            buffer.writeBytes(entries.buffer, 0, entries.buffer.writerIndex());
         }
     }
 
     public static PacketQIOItemViewerGuiSync decode(FriendlyByteBuf buffer) {
         Type type = buffer.readEnum(Type.class);
-        long countCapacity = 0;
-        int typeCapacity = 0;
-        Object2LongMap<UUIDAwareHashedItem> map = null;
-        if (type == Type.BATCH || type == Type.UPDATE) {
-            countCapacity = buffer.readVarLong();
-            typeCapacity = buffer.readVarInt();
-            map = BasePacketHandler.readMap(buffer, Object2LongOpenHashMap::new,
-                  buf -> new UUIDAwareHashedItem(buf.readItem(), BasePacketHandler.readOptional(buf, FriendlyByteBuf::readUUID)), FriendlyByteBuf::readVarLong);
+        if (type == Type.KILL) {
+            return kill();
+        }
+        long countCapacity = buffer.readVarLong();
+        int typeCapacity = buffer.readVarInt();
+        List<TypeDefinition> definitions = buffer.readList(buf -> new TypeDefinition(buf.readVarInt(), new UUIDAwareHashedItem(buf.readItem(), buf.readUUID())));
+        PacketQIOItemViewerGuiSync packet = new PacketQIOItemViewerGuiSync(type, definitions, null, countCapacity, typeCapacity);
+        int size = buffer.readVarInt();
+        packet.handles = new int[size];
+        packet.values = new long[size];
+        for (int i = 0; i < size; i++) {
+            packet.handles[i] = buffer.readVarInt();
+            long value = buffer.readVarLong();
+            packet.values[i] = type == Type.UPDATE ? decodeZigZag(value) : value;
         }
-        return new PacketQIOItemViewerGuiSync(type, map, countCapacity, typeCapacity);
+        return packet;
+    }
+
+    /**
+     * Maps signed values to unsigned ones so that small negative changes in count are also encoded in only a few bytes.
+     */
+    private static long encodeZigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long decodeZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
     }
 
     public enum Type {
@@ -86,4 +155,51 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
         UPDATE,
         KILL;
     }
+
+    private record TypeDefinition(int handle, UUIDAwareHashedItem type) {
+    }
+
+    /**
+     * The types and counts (or changes in count) to sync to all the players viewing a frequency. The entries are serialized as they are added so that building the
+     * packet for each player only requires figuring out which types that player has not been sent yet.
+     */
+    public static class SyncEntries {
+
+        private final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        private final IntList handles;
+        private final List<UUIDAwareHashedItem> types;
+        private final boolean delta;
+
+        private SyncEntries(int expectedSize, boolean delta) {
+            this.handles = new IntArrayList(expectedSize);
+            this.types = new ArrayList<>(expectedSize);
+            this.delta = delta;
+        }
+
+        /**
+         * Creates entries to use for a batch packet, where the values are the total count of each type.
+         */
+        public static SyncEntries absolute(int expectedSize) {
+            return new SyncEntries(expectedSize, false);
+        }
+
+        /**
+         * Creates entries to use for an update packet, where the values are the change in count of each type since the last update.
+         */
+        public static SyncEntries delta(int expectedSize) {
+            return new SyncEntries(expectedSize, true);
+        }
+
+        public void add(HashedItem type, UUID uuid, long value) {
+            int handle = QIOGlobalItemLookup.INSTANCE.getOrCreateSyncHandle(uuid);
+            handles.add(handle);
+            types.add(new UUIDAwareHashedItem(type, uuid));
+            buffer.writeVarInt(handle);
+            buffer.writeVarLong(delta ? encodeZigZag(value) : value);
+        }
+
+        public int size() {
+            return handles.size();
+        }
+    }
 }
@@ -4,10 +4,14 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import java.util.List;
+import mekanism.common.Mekanism;
 import mekanism.common.content.network.transmitter.DiversionTransporter;
 import mekanism.common.content.network.transmitter.DiversionTransporter.DiversionControl;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.content.transporter.TransporterUpdateQueue;
+import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.network.BasePacketHandler;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
@@ -17,116 +21,125 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * Syncs the changes to the stacks in transit in one or more transporters, see {@link TransporterUpdateQueue} for how the changes get bundled and how item types are
+ * shared between updates.
+ */
 public class PacketTransporterUpdate implements IMekanismPacket {
 
-    //Generic
-    private final boolean isDiversion;
-    private final boolean isSync;
-    private final BlockPos pos;
+    private final boolean resetItemTypes;
+    private final Int2ObjectMap<HashedItem> itemTypes;
+    private final List<TransporterChanges> changes;
 
-    private LogisticalTransporterBase transporter;
-    private DiversionControl[] modes;
-
-    //Sync
-    private int stackId;
-    private TransporterStack stack;
-    //Batch
-    private Int2ObjectMap<TransporterStack> updates;
-    private IntSet deletes;
-
-    public PacketTransporterUpdate(LogisticalTransporterBase tile, int stackId, TransporterStack stack) {
-        this(tile, true);
-        this.stackId = stackId;
-        this.stack = stack;
-    }
-
-    public PacketTransporterUpdate(LogisticalTransporterBase tile, Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
-        this(tile, false);
-        this.updates = updates;
-        this.deletes = deletes;
-    }
-
-    private PacketTransporterUpdate(LogisticalTransporterBase transporter, boolean isSync) {
-        this.isSync = isSync;
-        this.pos = transporter.getTilePos();
-        this.isDiversion = transporter instanceof DiversionTransporter;
-        if (this.isDiversion) {
-            this.modes = ((DiversionTransporter) transporter).modes;
-        }
-        this.transporter = transporter;
-    }
-
-    private PacketTransporterUpdate(BlockPos pos, boolean isSync, boolean isDiversion) {
-        this.pos = pos;
-        this.isSync = isSync;
-        this.isDiversion = isDiversion;
+    public PacketTransporterUpdate(boolean resetItemTypes, Int2ObjectMap<HashedItem> itemTypes, List<TransporterChanges> changes) {
+        this.resetItemTypes = resetItemTypes;
+        this.itemTypes = itemTypes;
+        this.changes = changes;
     }
 
     @Override
     public void handle(NetworkEvent.Context context) {
-        TileEntityLogisticalTransporterBase tile = WorldUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, Minecraft.getInstance().level, pos);
-        if (tile != null) {
-            LogisticalTransporterBase transporter = tile.getTransmitter();
-            if (isSync) {
-                transporter.addStack(stackId, stack);
-            } else {
-                for (Int2ObjectMap.Entry<TransporterStack> entry : updates.int2ObjectEntrySet()) {
-                    transporter.addStack(entry.getIntKey(), entry.getValue());
+        //Note: We need to keep track of the item types even if none of the transporters are loaded, as the server now assumes we know about them
+        TransporterUpdateQueue.receiveItemTypes(resetItemTypes, itemTypes);
+        for (TransporterChanges change : changes) {
+            TileEntityLogisticalTransporterBase tile = WorldUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, Minecraft.getInstance().level, change.pos());
+            if (tile != null) {
+                LogisticalTransporterBase transporter = tile.getTransmitter();
+                for (Int2ObjectMap.Entry<SyncedStack> entry : change.updates().int2ObjectEntrySet()) {
+                    SyncedStack synced = entry.getValue();
+                    HashedItem type = TransporterUpdateQueue.getItemType(synced.itemType());
+                    if (type == null) {
+                        Mekanism.logger.warn("Received transporter update at position: {} for unknown item type: {}.", change.pos(), synced.itemType());
+                    } else {
+                        TransporterStack stack = synced.stack();
+                        stack.itemStack = type.createStack(synced.count());
+                        transporter.addStack(entry.getIntKey(), stack);
+                    }
                 }
-                for (int toDelete : deletes) {
+                for (int toDelete : change.deletes()) {
                     transporter.deleteStack(toDelete);
                 }
-            }
-            if (isDiversion && transporter instanceof DiversionTransporter diversionTransporter) {
-                //Copy the values of modes, without replacing the actual array
-                System.arraycopy(modes, 0, diversionTransporter.modes, 0, modes.length);
+                if (change.modes() != null && transporter instanceof DiversionTransporter diversionTransporter) {
+                    //Copy the values of modes, without replacing the actual array
+                    System.arraycopy(change.modes(), 0, diversionTransporter.modes, 0, change.modes().length);
+                }
             }
         }
     }
 
     @Override
     public void encode(FriendlyByteBuf buffer) {
-        buffer.writeBlockPos(pos);
-        buffer.writeBoolean(isSync);
-        buffer.writeBoolean(isDiversion);
-        if (isSync) {
-            //Sync
-            buffer.writeVarInt(stackId);
-            stack.write(transporter, buffer);
-        } else {
-            //Batch
-            BasePacketHandler.writeMap(buffer, updates, (key, value, buf) -> {
-                buf.writeVarInt(key);
-                value.write(transporter, buf);
+        buffer.writeBoolean(resetItemTypes);
+        BasePacketHandler.writeMap(buffer, itemTypes, (key, value, buf) -> {
+            buf.writeVarInt(key);
+            buf.writeItem(value.getInternalStack());
+        });
+        buffer.writeCollection(changes, (buf, change) -> {
+            LogisticalTransporterBase transporter = change.transporter();
+            buf.writeBlockPos(change.pos());
+            BasePacketHandler.writeMap(buf, change.updates(), (key, value, b) -> {
+                b.writeVarInt(key);
+                b.writeVarInt(value.itemType());
+                b.writeVarInt(value.count());
+                value.stack().write(transporter, b);
             });
-            buffer.writeCollection(deletes, FriendlyByteBuf::writeVarInt);
-        }
-        if (isDiversion) {
-            //Note: Doesn't make use of read/write array as we know the size so can skip sending it
-            for (DiversionControl mode : modes) {
-                buffer.writeEnum(mode);
+            buf.writeCollection(change.deletes(), FriendlyByteBuf::writeVarInt);
+            buf.writeBoolean(change.modes() != null);
+            if (change.modes() != null) {
+                //Note: Doesn't make use of read/write array as we know the size so can skip sending it
+                for (DiversionControl mode : change.modes()) {
+                    buf.writeEnum(mode);
+                }
             }
-        }
+        });
     }
 
     public static PacketTransporterUpdate decode(FriendlyByteBuf buffer) {
-        PacketTransporterUpdate packet = new PacketTransporterUpdate(buffer.readBlockPos(), buffer.readBoolean(), buffer.readBoolean());
-        if (packet.isSync) {
-            //Sync
-            packet.stackId = buffer.readVarInt();
-            packet.stack = TransporterStack.readFromPacket(buffer);
-        } else {
-            //Batch
-            packet.updates = BasePacketHandler.readMap(buffer, Int2ObjectOpenHashMap::new, FriendlyByteBuf::readVarInt, TransporterStack::readFromPacket);
-            packet.deletes = buffer.readCollection(IntOpenHashSet::new, FriendlyByteBuf::readVarInt);
-        }
-        if (packet.isDiversion) {
-            packet.modes = new DiversionControl[EnumUtils.DIRECTIONS.length];
-            for (int i = 0; i < packet.modes.length; i++) {
-                packet.modes[i] = buffer.readEnum(DiversionControl.class);
+        boolean resetItemTypes = buffer.readBoolean();
+        Int2ObjectMap<HashedItem> itemTypes = BasePacketHandler.readMap(buffer, Int2ObjectOpenHashMap::new, FriendlyByteBuf::readVarInt,
+              buf -> HashedItem.create(buf.readItem()));
+        List<TransporterChanges> changes = buffer.readList(buf -> {
+            BlockPos pos = buf.readBlockPos();
+            Int2ObjectMap<SyncedStack> updates = BasePacketHandler.readMap(buf, Int2ObjectOpenHashMap::new, FriendlyByteBuf::readVarInt,
+                  b -> {
+                      int itemType = b.readVarInt();
+                      int count = b.readVarInt();
+                      return new SyncedStack(TransporterStack.readFromPacket(b), itemType, count);
+                  });
+            IntSet deletes = buf.readCollection(IntOpenHashSet::new, FriendlyByteBuf::readVarInt);
+            DiversionControl[] modes = null;
+            if (buf.readBoolean()) {
+                modes = new DiversionControl[EnumUtils.DIRECTIONS.length];
+                for (int i = 0; i < modes.length; i++) {
+                    modes[i] = buf.readEnum(DiversionControl.class);
+                }
             }
+            return new TransporterChanges(null, pos, updates, deletes, modes);
+        });
+        return new PacketTransporterUpdate(resetItemTypes, itemTypes, changes);
+    }
+
+    /**
+     * @param transporter Transporter the changes are for, only present on the server.
+     * @param modes       Modes of the transporter if it is a diversion transporter.
+     */
+    public record TransporterChanges(@Nullable LogisticalTransporterBase transporter, BlockPos pos, Int2ObjectMap<SyncedStack> updates, IntSet deletes,
+                                     @Nullable DiversionControl[] modes) {
+
+        public TransporterChanges(LogisticalTransporterBase transporter, Int2ObjectMap<SyncedStack> updates, IntSet deletes, @Nullable DiversionControl[] modes) {
+            this(transporter, transporter.getTilePos(), updates, deletes, modes);
+        }
+    }
+
+    /**
+     * A stack in transit, with the item it contains referenced by its id in the item type table of the player being synced.
+     */
+    public record SyncedStack(TransporterStack stack, int itemType, int count) {
+
+        public SyncedStack(TransporterStack stack, int itemType) {
+            this(stack, itemType, stack.itemStack.getCount());
         }
-        return packet;
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,11 @@
 package mekanism.common.network.to_client;
 
+import java.util.List;
 import mekanism.common.Mekanism;
+import mekanism.common.lib.UpdateTagDelta;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.tile.base.TileEntityUpdateable;
+import mekanism.common.tile.base.TileUpdateQueue;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
@@ -10,43 +13,76 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * Syncs the update tags of one or more tiles, see {@link TileUpdateQueue} for how the updates get bundled and when only the changes get sent.
+ */
 public class PacketUpdateTile implements IMekanismPacket {
 
-    private final CompoundTag updateTag;
-    private final BlockPos pos;
+    private final List<TileUpdate> updates;
 
-    public PacketUpdateTile(TileEntityUpdateable tile) {
-        this(tile.getBlockPos(), tile.getReducedUpdateTag());
-    }
-
-    private PacketUpdateTile(BlockPos pos, CompoundTag updateTag) {
-        this.pos = pos;
-        this.updateTag = updateTag;
+    public PacketUpdateTile(List<TileUpdate> updates) {
+        this.updates = updates;
     }
 
     @Override
     public void handle(NetworkEvent.Context context) {
         ClientLevel world = Minecraft.getInstance().level;
-        //Only handle the update packet if the block is currently loaded
-        if (WorldUtils.isBlockLoaded(world, pos)) {
-            TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, pos, true);
-            if (tile == null) {
-                Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
+        if (world == null) {
+            return;
+        }
+        for (TileUpdate update : updates) {
+            BlockPos pos = update.pos();
+            //Note: We need to keep track of the update even if the block isn't loaded as the server now assumes we know about it
+            CompoundTag updateTag = TileUpdateQueue.receiveUpdate(world, update);
+            if (updateTag == null) {
+                Mekanism.logger.debug("Received partial tile update for position: {} in world: {}, but we don't have a previous update to apply it to.", pos,
                       world.dimension().location());
-            } else {
-                tile.handleUpdatePacket(updateTag);
+            } else if (WorldUtils.isBlockLoaded(world, pos)) {
+                //Only handle the update packet if the block is currently loaded
+                TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, pos, true);
+                if (tile == null) {
+                    Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
+                          world.dimension().location());
+                } else {
+                    tile.handleUpdatePacket(updateTag);
+                }
             }
         }
     }
 
     @Override
     public void encode(FriendlyByteBuf buffer) {
-        buffer.writeBlockPos(pos);
-        buffer.writeNbt(updateTag);
+        buffer.writeCollection(updates, (buf, update) -> {
+            buf.writeBlockPos(update.pos());
+            buf.writeBoolean(update.delta() == null);
+            if (update.delta() == null) {
+                buf.writeNbt(update.updateTag());
+            } else {
+                update.delta().write(buf);
+            }
+        });
     }
 
     public static PacketUpdateTile decode(FriendlyByteBuf buffer) {
-        return new PacketUpdateTile(buffer.readBlockPos(), buffer.readNbt());
+        return new PacketUpdateTile(buffer.readList(buf -> {
+            BlockPos pos = buf.readBlockPos();
+            return buf.readBoolean() ? TileUpdate.full(pos, buf.readNbt()) : TileUpdate.delta(pos, UpdateTagDelta.read(buf));
+        }));
+    }
+
+    /**
+     * Either the full update tag of a tile, or the changes since the last update the player was sent for the tile.
+     */
+    public record TileUpdate(BlockPos pos, @Nullable CompoundTag updateTag, @Nullable UpdateTagDelta delta) {
+
+        public static TileUpdate full(BlockPos pos, @Nullable CompoundTag updateTag) {
+            return new TileUpdate(pos, updateTag, null);
+        }
+
+        public static TileUpdate delta(BlockPos pos, UpdateTagDelta delta) {
+            return new TileUpdate(pos, null, delta);
+        }
     }
-}
\ No newline at end of file
+}
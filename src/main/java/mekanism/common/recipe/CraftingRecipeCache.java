@@ -0,0 +1,244 @@
+package mekanism.common.recipe;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.world.inventory.CraftingContainer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.CraftingRecipe;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.item.crafting.ShapedRecipe;
+import net.minecraft.world.item.crafting.ShapelessRecipe;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cache of which crafting recipe matches the contents of a crafting grid, so that things like the Formulaic Assemblicator and QIO crafting windows that repeatedly look
+ * up the recipe for the same grid don't have to check every crafting recipe each time. When the recipe for a grid isn't known yet, only the recipes that may contain
+ * the items in the grid get checked.
+ * <br>
+ * There is a separate cache for each side, as both sides have their own recipe manager, and on single player may be accessing the cache at the same time.
+ */
+@NothingNullByDefault
+public class CraftingRecipeCache {
+
+    /**
+     * Max number of grids to keep track of per side, after which we start the cache over so that it can't grow unbounded.
+     */
+    private static final int MAX_SIZE = 4_096;
+    /**
+     * Cached value for grids we know don't match any recipe, which also means all uncheckable recipes have to be checked again.
+     */
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private static final CraftingRecipeCache SERVER = new CraftingRecipeCache();
+    private static final CraftingRecipeCache CLIENT = new CraftingRecipeCache();
+
+    //Grid -> index of the first recipe that matches it, or NO_MATCH
+    private final Object2IntMap<GridKey> cachedMatches = new Object2IntOpenHashMap<>();
+    private final Map<HashedItem, HashedItem> internedItems = new Object2ObjectOpenHashMap<>();
+    //All crafting recipes in the order the recipe manager checks them
+    private final List<CraftingRecipe> recipes = new ArrayList<>();
+    //Recipes that may contain the given item, in the same order as the recipe manager would check them
+    private final Map<Item, List<IndexedRecipe>> candidateRecipes = new Reference2ObjectOpenHashMap<>();
+    //Recipes that have to always be checked, as we can't tell what items they may contain
+    private final List<IndexedRecipe> uncheckableRecipes = new ArrayList<>();
+    @Nullable
+    private RecipeManager recipeManager;
+
+    private CraftingRecipeCache() {
+        cachedMatches.defaultReturnValue(-1);
+    }
+
+    /**
+     * Gets the crafting recipe that matches the given grid.
+     *
+     * @apiNote Behaves the same as {@link MekanismRecipeType#getRecipeFor(RecipeType, net.minecraft.world.Container, Level)} for crafting recipes.
+     */
+    public static Optional<CraftingRecipe> getRecipeFor(CraftingContainer inv, Level level) {
+        return (level.isClientSide ? CLIENT : SERVER).findRecipe(inv, level);
+    }
+
+    private Optional<CraftingRecipe> findRecipe(CraftingContainer inv, Level level) {
+        RecipeManager manager = level.getRecipeManager();
+        if (recipeManager != manager) {
+            clear();
+            recipeManager = manager;
+            indexRecipes(manager);
+        }
+        GridKey key = GridKey.raw(inv);
+        int match = cachedMatches.getInt(key);
+        //Note: We double-check the cached recipe still matches in case it is a special recipe that depends on more than just the items in the grid
+        if (match == -1 || match != NO_MATCH && !recipes.get(match).matches(inv, level)) {
+            match = findUncachedRecipe(inv, level);
+            if (cachedMatches.size() >= MAX_SIZE) {
+                cachedMatches.clear();
+                internedItems.clear();
+            }
+            cachedMatches.put(key.intern(internedItems), match);
+        } else {
+            //Recipes we can't check the items of may depend on more than just the items in the grid, so any that come before the cached match (or all of them if
+            // nothing matched) may match now even though they didn't before
+            for (IndexedRecipe recipe : uncheckableRecipes) {
+                if (recipe.index() >= match) {
+                    break;
+                } else if (recipe.recipe().matches(inv, level)) {
+                    match = recipe.index();
+                    break;
+                }
+            }
+        }
+        if (match == NO_MATCH) {
+            return Optional.empty();
+        }
+        CraftingRecipe recipe = recipes.get(match);
+        //Only allow looking up complete recipes or special recipes, the same as MekanismRecipeType#getRecipeFor. We still keep track of incomplete recipes matching,
+        // as the recipe manager would stop at them instead of moving on to a later recipe
+        return recipe.isSpecial() || !recipe.isIncomplete() ? Optional.of(recipe) : Optional.empty();
+    }
+
+    /**
+     * @return The index of the first recipe that matches the grid, or {@link #NO_MATCH} if none do.
+     */
+    private int findUncachedRecipe(CraftingContainer inv, Level level) {
+        //Any recipe that matches has to contain every item in the grid, so we only need to check the candidates of the item that has the fewest of them
+        List<IndexedRecipe> candidates = null;
+        for (int i = 0, slots = inv.getContainerSize(); i < slots; i++) {
+            ItemStack stack = inv.getItem(i);
+            if (!stack.isEmpty()) {
+                List<IndexedRecipe> itemCandidates = candidateRecipes.getOrDefault(stack.getItem(), Collections.emptyList());
+                if (candidates == null || itemCandidates.size() < candidates.size()) {
+                    candidates = itemCandidates;
+                }
+            }
+        }
+        if (candidates == null) {
+            candidates = Collections.emptyList();
+        }
+        //Merge the candidates with the recipes we always have to check, so that we check them in the same order the recipe manager would
+        for (int i = 0, j = 0; i < candidates.size() || j < uncheckableRecipes.size(); ) {
+            IndexedRecipe recipe;
+            if (j == uncheckableRecipes.size() || i < candidates.size() && candidates.get(i).index() < uncheckableRecipes.get(j).index()) {
+                recipe = candidates.get(i++);
+            } else {
+                recipe = uncheckableRecipes.get(j++);
+            }
+            if (recipe.recipe().matches(inv, level)) {
+                return recipe.index();
+            }
+        }
+        return NO_MATCH;
+    }
+
+    private void indexRecipes(RecipeManager manager) {
+        recipes.addAll(manager.getAllRecipesFor(RecipeType.CRAFTING));
+        for (int index = 0; index < recipes.size(); index++) {
+            CraftingRecipe recipe = recipes.get(index);
+            //Note: We index incomplete recipes as well, as if they are the first match the recipe manager wouldn't look at any later recipes
+            IndexedRecipe indexedRecipe = new IndexedRecipe(index, recipe);
+            Set<Item> items = getPossibleItems(recipe);
+            if (items == null) {
+                uncheckableRecipes.add(indexedRecipe);
+            } else {
+                for (Item item : items) {
+                    candidateRecipes.computeIfAbsent(item, i -> new ArrayList<>()).add(indexedRecipe);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The items the recipe may contain, or {@code null} if we can't tell from the recipe's ingredients.
+     */
+    @Nullable
+    private static Set<Item> getPossibleItems(CraftingRecipe recipe) {
+        //Only trust the ingredients of shaped and shapeless recipes, as other recipes may have custom matching logic
+        if (recipe.isSpecial() || !(recipe instanceof ShapedRecipe || recipe instanceof ShapelessRecipe || recipe instanceof WrappedShapedRecipe)) {
+            return null;
+        }
+        Set<Item> items = new ReferenceOpenHashSet<>();
+        for (Ingredient ingredient : recipe.getIngredients()) {
+            if (!ingredient.isSimple()) {
+                //Ingredient may match more than the items it lists
+                return null;
+            }
+            for (ItemStack stack : ingredient.getItems()) {
+                items.add(stack.getItem());
+            }
+        }
+        return items.isEmpty() ? null : items;
+    }
+
+    private void clear() {
+        cachedMatches.clear();
+        internedItems.clear();
+        recipes.clear();
+        candidateRecipes.clear();
+        uncheckableRecipes.clear();
+        recipeManager = null;
+    }
+
+    public static void reset() {
+        SERVER.clear();
+    }
+
+    public static void resetClient() {
+        CLIENT.clear();
+    }
+
+    private record IndexedRecipe(int index, CraftingRecipe recipe) {
+    }
+
+    /**
+     * Represents the items in each slot of a crafting grid, with empty slots being {@code null}.
+     */
+    private record GridKey(int width, int height, List<HashedItem> items) {
+
+        /**
+         * Creates a key that is backed by the stacks in the grid, so is only safe to use for lookups.
+         */
+        private static GridKey raw(CraftingContainer inv) {
+            HashedItem[] items = new HashedItem[inv.getContainerSize()];
+            for (int i = 0; i < items.length; i++) {
+                ItemStack stack = inv.getItem(i);
+                if (!stack.isEmpty()) {
+                    items[i] = HashedItem.raw(stack);
+                }
+            }
+            return new GridKey(inv.getWidth(), inv.getHeight(), Arrays.asList(items));
+        }
+
+        /**
+         * Creates a copy of this key that is safe to store, sharing the items with any other stored keys that contain the same items.
+         */
+        private GridKey intern(Map<HashedItem, HashedItem> internedItems) {
+            HashedItem[] interned = new HashedItem[items.size()];
+            for (int i = 0; i < interned.length; i++) {
+                HashedItem item = items.get(i);
+                if (item != null) {
+                    HashedItem internedItem = internedItems.get(item);
+                    if (internedItem == null) {
+                        internedItem = item.recreate();
+                        internedItems.put(internedItem, internedItem);
+                    }
+                    interned[i] = internedItem;
+                }
+            }
+            return new GridKey(width, height, Arrays.asList(interned));
+        }
+    }
+}
@@ -2,7 +2,6 @@ package mekanism.common.recipe.lookup.cache;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import mekanism.api.recipes.MekanismRecipe;
@@ -56,22 +55,31 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
     }
 
     /**
-     * Helper to check if a cache contains a given input, or if not, if the complex recipe fallback set contains a matching recipe.
+     * Helper to check if a cache contains a given input, or if not, if any of the cache's complex recipes that may contain the input match.
      */
     protected <INPUT, INGREDIENT extends InputIngredient<INPUT>, CACHE extends IInputCache<INPUT, INGREDIENT, RECIPE>> boolean containsInput(
-          @Nullable Level world, INPUT input, Function<RECIPE, INGREDIENT> inputExtractor, CACHE cache, Set<RECIPE> complexRecipes) {
+          @Nullable Level world, INPUT input, Function<RECIPE, INGREDIENT> inputExtractor, CACHE cache) {
         if (cache.isEmpty(input)) {
             //Don't allow empty inputs
             return false;
         }
         initCacheIfNeeded(world);
-        return cache.contains(input) || complexRecipes.stream().anyMatch(recipe -> inputExtractor.apply(recipe).testType(input));
+        if (cache.contains(input)) {
+            return true;
+        } else if (cache.isKnownUnused(input)) {
+            //We already know no recipes use the input, skip checking the complex recipes again
+            return false;
+        } else if (cache.containsComplex(input, recipe -> inputExtractor.apply(recipe).testType(input))) {
+            return true;
+        }
+        cache.markUnused(input);
+        return false;
     }
 
     /**
-     * Helper to check if a cache contains a given input grouping, or if not, if the complex recipe fallback set contains a matching recipe. This method is mainly used
-     * for purposes of implementing insertion predicates, so it has the following behaviors. This allows it to short circuit in cases where we already know the input is
-     * valid (the last case in the below list).
+     * Helper to check if a cache contains a given input grouping, or if not, if any of the cache's complex recipes that may contain the input match. This method is
+     * mainly used for purposes of implementing insertion predicates, so it has the following behaviors. This allows it to short circuit in cases where we already know
+     * the input is valid (the last case in the below list).
      * <ul>
      * <li>If the first input is empty: This will check if there is a recipe that the second input is valid for.</li>
      * <li>If the first input is not empty but the second input is empty: This will return true.</li>
@@ -79,11 +87,11 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
      */
     protected <INPUT_1, INGREDIENT_1 extends InputIngredient<INPUT_1>, CACHE_1 extends IInputCache<INPUT_1, INGREDIENT_1, RECIPE>, INPUT_2,
           INGREDIENT_2 extends InputIngredient<INPUT_2>, CACHE_2 extends IInputCache<INPUT_2, INGREDIENT_2, RECIPE>> boolean containsPairing(@Nullable Level world,
-          INPUT_1 input1, Function<RECIPE, INGREDIENT_1> input1Extractor, CACHE_1 cache1, Set<RECIPE> complexIngredients1, INPUT_2 input2,
-          Function<RECIPE, INGREDIENT_2> input2Extractor, CACHE_2 cache2, Set<RECIPE> complexIngredients2) {
+          INPUT_1 input1, Function<RECIPE, INGREDIENT_1> input1Extractor, CACHE_1 cache1, INPUT_2 input2, Function<RECIPE, INGREDIENT_2> input2Extractor,
+          CACHE_2 cache2) {
         if (cache1.isEmpty(input1)) {
             //Note: We don't bother checking if 2 is empty here as it will be verified in containsInput
-            return containsInput(world, input2, input2Extractor, cache2, complexIngredients2);
+            return containsInput(world, input2, input2Extractor, cache2);
         } else if (cache2.isEmpty(input2)) {
             return true;
         }
@@ -92,7 +100,8 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
         if (cache1.contains(input1, recipe -> input2Extractor.apply(recipe).testType(input2))) {
             return true;
         }
-        //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex
-        return complexIngredients1.stream().anyMatch(recipe -> input1Extractor.apply(recipe).testType(input1) && input2Extractor.apply(recipe).testType(input2));
+        //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex unless we already know no recipes use input 1
+        return !cache1.isKnownUnused(input1) && cache1.containsComplex(input1, recipe -> input1Extractor.apply(recipe).testType(input1) &&
+                                                                                 input2Extractor.apply(recipe).testType(input2));
     }
 }
\ No newline at end of file
@@ -1,10 +1,8 @@
 package mekanism.common.recipe.lookup.cache;
 
 import java.util.EnumMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Predicate;
 import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
@@ -26,13 +24,11 @@ import org.jetbrains.annotations.Nullable;
 public class ChemicalCrystallizerInputRecipeCache extends AbstractInputRecipeCache<ChemicalCrystallizerRecipe> {
 
     private final Map<ChemicalType, ChemicalInputCache<?, ?, ChemicalCrystallizerRecipe>> typeBasedCache = new EnumMap<>(ChemicalType.class);
-    private final Map<ChemicalType, Set<ChemicalCrystallizerRecipe>> typeBasedComplexRecipes = new EnumMap<>(ChemicalType.class);
 
     public ChemicalCrystallizerInputRecipeCache(MekanismRecipeType<ChemicalCrystallizerRecipe, ?> recipeType) {
         super(recipeType);
         for (ChemicalType chemicalType : EnumUtils.CHEMICAL_TYPES) {
             typeBasedCache.put(chemicalType, new ChemicalInputCache<>());
-            typeBasedComplexRecipes.put(chemicalType, new HashSet<>());
         }
     }
 
@@ -41,7 +37,6 @@ public class ChemicalCrystallizerInputRecipeCache extends AbstractInputRecipeCac
         super.clear();
         for (ChemicalType chemicalType : EnumUtils.CHEMICAL_TYPES) {
             typeBasedCache.get(chemicalType).clear();
-            typeBasedComplexRecipes.get(chemicalType).clear();
         }
     }
 
@@ -60,7 +55,7 @@ public class ChemicalCrystallizerInputRecipeCache extends AbstractInputRecipeCac
         }
         initCacheIfNeeded(world);
         ChemicalType type = input.getChemicalType();
-        return containsInput(type, input.getChemicalStack()) || typeBasedComplexRecipes.get(type).stream().anyMatch(recipe -> recipe.testType(input));
+        return containsInput(type, input.getChemicalStack(), recipe -> recipe.testType(input));
     }
 
     /**
@@ -79,12 +74,14 @@ public class ChemicalCrystallizerInputRecipeCache extends AbstractInputRecipeCac
         initCacheIfNeeded(world);
         ChemicalType type = ChemicalType.getTypeFor(input);
         STACK stack = ChemicalUtil.withAmount(input, 1);
-        return containsInput(type, stack) || typeBasedComplexRecipes.get(type).stream().anyMatch(recipe -> recipe.testType(stack));
+        return containsInput(type, stack, recipe -> recipe.testType(stack));
     }
 
     @SuppressWarnings("unchecked")
-    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> boolean containsInput(ChemicalType type, STACK stack) {
-        return ((ChemicalInputCache<CHEMICAL, STACK, ChemicalCrystallizerRecipe>) typeBasedCache.get(type)).contains(stack);
+    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> boolean containsInput(ChemicalType type, STACK stack,
+          Predicate<ChemicalCrystallizerRecipe> complexMatch) {
+        ChemicalInputCache<CHEMICAL, STACK, ChemicalCrystallizerRecipe> cache = (ChemicalInputCache<CHEMICAL, STACK, ChemicalCrystallizerRecipe>) typeBasedCache.get(type);
+        return cache.contains(stack) || cache.containsComplex(stack, complexMatch);
     }
 
     /**
@@ -111,7 +108,7 @@ public class ChemicalCrystallizerInputRecipeCache extends AbstractInputRecipeCac
         Predicate<ChemicalCrystallizerRecipe> matchPredicate = recipe -> ((ChemicalStackIngredient<CHEMICAL, STACK>) recipe.getInput()).test(stack);
         ChemicalInputCache<CHEMICAL, STACK, ChemicalCrystallizerRecipe> cache = (ChemicalInputCache<CHEMICAL, STACK, ChemicalCrystallizerRecipe>) typeBasedCache.get(type);
         ChemicalCrystallizerRecipe recipe = cache.findFirstRecipe(stack, matchPredicate);
-        return recipe == null ? findFirstRecipe(typeBasedComplexRecipes.get(type), matchPredicate) : recipe;
+        return recipe == null ? cache.findFirstComplexRecipe(stack, matchPredicate) : recipe;
     }
 
     @Override
@@ -119,9 +116,8 @@ public class ChemicalCrystallizerInputRecipeCache extends AbstractInputRecipeCac
         for (ChemicalCrystallizerRecipe recipe : recipes) {
             ChemicalStackIngredient<?, ?> ingredient = recipe.getInput();
             ChemicalType type = ChemicalType.getTypeFor(ingredient);
-            if (mapInputs(recipe, type, ingredient)) {
-                typeBasedComplexRecipes.get(type).add(recipe);
-            }
+            //Note: Complex ingredients are tracked by the cache itself
+            mapInputs(recipe, type, ingredient);
         }
     }
 
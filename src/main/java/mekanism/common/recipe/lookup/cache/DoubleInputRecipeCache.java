@@ -1,8 +1,6 @@
 package mekanism.common.recipe.lookup.cache;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -21,9 +19,6 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
       RECIPE extends MekanismRecipe & BiPredicate<INPUT_A, INPUT_B>, CACHE_A extends IInputCache<INPUT_A, INGREDIENT_A, RECIPE>,
       CACHE_B extends IInputCache<INPUT_B, INGREDIENT_B, RECIPE>> extends AbstractInputRecipeCache<RECIPE> {
 
-    private final Set<RECIPE> complexIngredientA = new HashSet<>();
-    private final Set<RECIPE> complexIngredientB = new HashSet<>();
-    private final Set<RECIPE> complexRecipes = new HashSet<>();
     private final Function<RECIPE, INGREDIENT_A> inputAExtractor;
     private final Function<RECIPE, INGREDIENT_B> inputBExtractor;
     private final CACHE_A cacheA;
@@ -43,9 +38,6 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         super.clear();
         cacheA.clear();
         cacheB.clear();
-        complexIngredientA.clear();
-        complexIngredientB.clear();
-        complexRecipes.clear();
     }
 
     /**
@@ -57,7 +49,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputA(@Nullable Level world, INPUT_A input) {
-        return containsInput(world, input, inputAExtractor, cacheA, complexIngredientA);
+        return containsInput(world, input, inputAExtractor, cacheA);
     }
 
     /**
@@ -69,7 +61,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputB(@Nullable Level world, INPUT_B input) {
-        return containsInput(world, input, inputBExtractor, cacheB, complexIngredientB);
+        return containsInput(world, input, inputBExtractor, cacheB);
     }
 
     /**
@@ -86,7 +78,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * {@link #containsInputBA(Level, Object, Object)}.
      */
     public boolean containsInputAB(@Nullable Level world, INPUT_A inputA, INPUT_B inputB) {
-        return containsPairing(world, inputA, inputAExtractor, cacheA, complexIngredientA, inputB, inputBExtractor, cacheB, complexIngredientB);
+        return containsPairing(world, inputA, inputAExtractor, cacheA, inputB, inputBExtractor, cacheB);
     }
 
     /**
@@ -103,7 +95,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * {@link #containsInputAB(Level, Object, Object)}.
      */
     public boolean containsInputBA(@Nullable Level world, INPUT_A inputA, INPUT_B inputB) {
-        return containsPairing(world, inputB, inputBExtractor, cacheB, complexIngredientB, inputA, inputAExtractor, cacheA, complexIngredientA);
+        return containsPairing(world, inputB, inputBExtractor, cacheB, inputA, inputAExtractor, cacheA);
     }
 
     /**
@@ -144,15 +136,15 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         }
         initCacheIfNeeded(world);
         Predicate<RECIPE> matchPredicate = r -> r.test(inputA, inputB);
-        //Lookup a recipe from the specified input map
+        //Lookup a recipe from the specified input map, if there is no recipe, then check if any of the recipes that are complex for the specified input match.
+        // Recipes that are only complex for the other input are still in the specified input map, so we don't need to check them
         RECIPE recipe;
         if (useCacheA) {
             recipe = cacheA.findFirstRecipe(inputA, matchPredicate);
-        } else {
-            recipe = cacheB.findFirstRecipe(inputB, matchPredicate);
+            return recipe == null ? cacheA.findFirstComplexRecipe(inputA, matchPredicate) : recipe;
         }
-        // if there is no recipe, then check if any of our complex recipes (either a or b being complex) match
-        return recipe == null ? findFirstRecipe(complexRecipes, matchPredicate) : recipe;
+        recipe = cacheB.findFirstRecipe(inputB, matchPredicate);
+        return recipe == null ? cacheB.findFirstComplexRecipe(inputB, matchPredicate) : recipe;
     }
 
     /**
@@ -183,7 +175,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         }
         RECIPE recipe = cacheA.findFirstRecipe(inputA, matchPredicate);
         if (recipe == null) {
-            return findFirstRecipe(complexRecipes, r -> inputAExtractor.apply(r).testType(inputA) && matchPredicate.test(r));
+            return cacheA.findFirstComplexRecipe(inputA, r -> inputAExtractor.apply(r).testType(inputA) && matchPredicate.test(r));
         }
         return recipe;
     }
@@ -191,17 +183,9 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
     @Override
     protected void initCache(List<RECIPE> recipes) {
         for (RECIPE recipe : recipes) {
-            boolean complexA = cacheA.mapInputs(recipe, inputAExtractor.apply(recipe));
-            boolean complexB = cacheB.mapInputs(recipe, inputBExtractor.apply(recipe));
-            if (complexA) {
-                complexIngredientA.add(recipe);
-            }
-            if (complexB) {
-                complexIngredientB.add(recipe);
-            }
-            if (complexA || complexB) {
-                complexRecipes.add(recipe);
-            }
+            //Note: Complex ingredients are tracked by the caches themselves
+            cacheA.mapInputs(recipe, inputAExtractor.apply(recipe));
+            cacheB.mapInputs(recipe, inputBExtractor.apply(recipe));
         }
     }
 
@@ -1,8 +1,6 @@
 package mekanism.common.recipe.lookup.cache;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -19,7 +17,6 @@ import org.jetbrains.annotations.Nullable;
 public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, RECIPE extends MekanismRecipe & BiPredicate<INPUT, INPUT>,
       CACHE extends IInputCache<INPUT, INGREDIENT, RECIPE>> extends AbstractInputRecipeCache<RECIPE> {
 
-    private final Set<RECIPE> complexRecipes = new HashSet<>();
     private final Function<RECIPE, INGREDIENT> inputAExtractor;
     private final Function<RECIPE, INGREDIENT> inputBExtractor;
     private final CACHE cache;
@@ -36,7 +33,6 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
     public void clear() {
         super.clear();
         cache.clear();
-        complexRecipes.clear();
     }
 
     /**
@@ -53,8 +49,16 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
             return false;
         }
         initCacheIfNeeded(world);
-        return cache.contains(input) || complexRecipes.stream().anyMatch(recipe -> inputAExtractor.apply(recipe).testType(input) ||
-                                                                                   inputBExtractor.apply(recipe).testType(input));
+        if (cache.contains(input)) {
+            return true;
+        } else if (cache.isKnownUnused(input)) {
+            //We already know no recipes use the input, skip checking the complex recipes again
+            return false;
+        } else if (cache.containsComplex(input, recipe -> inputAExtractor.apply(recipe).testType(input) || inputBExtractor.apply(recipe).testType(input))) {
+            return true;
+        }
+        cache.markUnused(input);
+        return false;
     }
 
     /**
@@ -91,8 +95,8 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
         })) {
             return true;
         }
-        //Our quick lookup cache does not contain it, check any recipes where the ingredients are complex
-        return complexRecipes.stream().anyMatch(recipe -> {
+        //Our quick lookup cache does not contain it, check any recipes where the ingredients are complex unless we already know no recipes use input A
+        return !cache.isKnownUnused(inputA) && cache.containsComplex(inputA, recipe -> {
             INGREDIENT ingredientA = inputAExtractor.apply(recipe);
             INGREDIENT ingredientB = inputBExtractor.apply(recipe);
             return ingredientA.testType(inputA) && ingredientB.testType(inputB) || ingredientB.testType(inputA) && ingredientA.testType(inputB);
@@ -119,18 +123,16 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
         Predicate<RECIPE> matchPredicate = r -> r.test(inputA, inputB);
         //Lookup a recipe from the input map
         RECIPE recipe = cache.findFirstRecipe(inputA, matchPredicate);
-        // if there is no recipe, then check if any of our complex recipes match
-        return recipe == null ? findFirstRecipe(complexRecipes, matchPredicate) : recipe;
+        // if there is no recipe, then check if any of our complex recipes that may contain input A match
+        return recipe == null ? cache.findFirstComplexRecipe(inputA, matchPredicate) : recipe;
     }
 
     @Override
     protected void initCache(List<RECIPE> recipes) {
         for (RECIPE recipe : recipes) {
-            boolean complexA = cache.mapInputs(recipe, inputAExtractor.apply(recipe));
-            boolean complexB = cache.mapInputs(recipe, inputBExtractor.apply(recipe));
-            if (complexA || complexB) {
-                complexRecipes.add(recipe);
-            }
+            //Note: Complex ingredients are tracked by the cache itself
+            cache.mapInputs(recipe, inputAExtractor.apply(recipe));
+            cache.mapInputs(recipe, inputBExtractor.apply(recipe));
         }
     }
 }
\ No newline at end of file
@@ -1,8 +1,6 @@
 package mekanism.common.recipe.lookup.cache;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Predicate;
 import mekanism.api.chemical.gas.Gas;
 import mekanism.api.chemical.gas.GasStack;
@@ -22,8 +20,6 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
 
     private final ChemicalInputCache<Gas, GasStack, RotaryRecipe> gasInputCache = new ChemicalInputCache<>();
     private final FluidInputCache<RotaryRecipe> fluidInputCache = new FluidInputCache<>();
-    private final Set<RotaryRecipe> complexGasInputRecipes = new HashSet<>();
-    private final Set<RotaryRecipe> complexFluidInputRecipes = new HashSet<>();
 
     public RotaryInputRecipeCache(MekanismRecipeType<RotaryRecipe, ?> recipeType) {
         super(recipeType);
@@ -34,8 +30,6 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
         super.clear();
         gasInputCache.clear();
         fluidInputCache.clear();
-        complexGasInputRecipes.clear();
-        complexFluidInputRecipes.clear();
     }
 
     /**
@@ -47,7 +41,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInput(@Nullable Level world, FluidStack input) {
-        return containsInput(world, input, RotaryRecipe::getFluidInput, fluidInputCache, complexFluidInputRecipes);
+        return containsInput(world, input, RotaryRecipe::getFluidInput, fluidInputCache);
     }
 
     /**
@@ -59,7 +53,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInput(@Nullable Level world, GasStack input) {
-        return containsInput(world, input, RotaryRecipe::getGasInput, gasInputCache, complexGasInputRecipes);
+        return containsInput(world, input, RotaryRecipe::getGasInput, gasInputCache);
     }
 
     /**
@@ -79,7 +73,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
         initCacheIfNeeded(world);
         Predicate<RotaryRecipe> matchPredicate = recipe -> recipe.test(input);
         RotaryRecipe recipe = fluidInputCache.findFirstRecipe(input, matchPredicate);
-        return recipe == null ? findFirstRecipe(complexFluidInputRecipes, matchPredicate) : recipe;
+        return recipe == null ? fluidInputCache.findFirstComplexRecipe(input, matchPredicate) : recipe;
     }
 
     /**
@@ -99,17 +93,18 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
         initCacheIfNeeded(world);
         Predicate<RotaryRecipe> matchPredicate = recipe -> recipe.test(input);
         RotaryRecipe recipe = gasInputCache.findFirstRecipe(input, matchPredicate);
-        return recipe == null ? findFirstRecipe(complexGasInputRecipes, matchPredicate) : recipe;
+        return recipe == null ? gasInputCache.findFirstComplexRecipe(input, matchPredicate) : recipe;
     }
 
     @Override
     protected void initCache(List<RotaryRecipe> recipes) {
         for (RotaryRecipe recipe : recipes) {
-            if (recipe.hasFluidToGas() && fluidInputCache.mapInputs(recipe, recipe.getFluidInput())) {
-                complexFluidInputRecipes.add(recipe);
+            //Note: Complex ingredients are tracked by the caches themselves
+            if (recipe.hasFluidToGas()) {
+                fluidInputCache.mapInputs(recipe, recipe.getFluidInput());
             }
-            if (recipe.hasGasToFluid() && gasInputCache.mapInputs(recipe, recipe.getGasInput())) {
-                complexGasInputRecipes.add(recipe);
+            if (recipe.hasGasToFluid()) {
+                gasInputCache.mapInputs(recipe, recipe.getGasInput());
             }
         }
     }
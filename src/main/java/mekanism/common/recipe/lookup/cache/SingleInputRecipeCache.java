@@ -1,8 +1,6 @@
 package mekanism.common.recipe.lookup.cache;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import mekanism.api.functions.ConstantPredicates;
@@ -19,7 +17,6 @@ import org.jetbrains.annotations.Nullable;
 public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, RECIPE extends MekanismRecipe & Predicate<INPUT>,
       CACHE extends IInputCache<INPUT, INGREDIENT, RECIPE>> extends AbstractInputRecipeCache<RECIPE> {
 
-    private final Set<RECIPE> complexRecipes = new HashSet<>();
     private final Function<RECIPE, INGREDIENT> inputExtractor;
     private final CACHE cache;
 
@@ -33,7 +30,6 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
     public void clear() {
         super.clear();
         cache.clear();
-        complexRecipes.clear();
     }
 
     /**
@@ -45,7 +41,7 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInput(@Nullable Level world, INPUT input) {
-        return containsInput(world, input, inputExtractor, cache, complexRecipes);
+        return containsInput(world, input, inputExtractor, cache);
     }
 
     /**
@@ -65,7 +61,10 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
         initCacheIfNeeded(world);
         Predicate<RECIPE> matchPredicate = recipe -> recipe.test(input);
         RECIPE recipe = cache.findFirstRecipe(input, matchPredicate);
-        return recipe == null ? findFirstRecipe(complexRecipes, matchPredicate) : recipe;
+        if (recipe == null && !cache.isKnownUnused(input)) {
+            return cache.findFirstComplexRecipe(input, matchPredicate);
+        }
+        return recipe;
     }
 
     /**
@@ -98,15 +97,17 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
         }
         initCacheIfNeeded(world);
         RECIPE recipe = cache.findFirstRecipe(input, matchCriteria);
-        return recipe == null ? findFirstRecipe(complexRecipes, r -> inputExtractor.apply(r).testType(input) && matchCriteria.test(r)) : recipe;
+        if (recipe == null && !cache.isKnownUnused(input)) {
+            return cache.findFirstComplexRecipe(input, r -> inputExtractor.apply(r).testType(input) && matchCriteria.test(r));
+        }
+        return recipe;
     }
 
     @Override
     protected void initCache(List<RECIPE> recipes) {
         for (RECIPE recipe : recipes) {
-            if (cache.mapInputs(recipe, inputExtractor.apply(recipe))) {
-                complexRecipes.add(recipe);
-            }
+            //Note: Complex ingredients are tracked by the cache itself
+            cache.mapInputs(recipe, inputExtractor.apply(recipe));
         }
     }
 }
\ No newline at end of file
@@ -1,8 +1,6 @@
 package mekanism.common.recipe.lookup.cache;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import mekanism.api.recipes.MekanismRecipe;
@@ -21,10 +19,6 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
       CACHE_A extends IInputCache<INPUT_A, INGREDIENT_A, RECIPE>, CACHE_B extends IInputCache<INPUT_B, INGREDIENT_B, RECIPE>,
       CACHE_C extends IInputCache<INPUT_C, INGREDIENT_C, RECIPE>> extends AbstractInputRecipeCache<RECIPE> {
 
-    private final Set<RECIPE> complexIngredientA = new HashSet<>();
-    private final Set<RECIPE> complexIngredientB = new HashSet<>();
-    private final Set<RECIPE> complexIngredientC = new HashSet<>();
-    private final Set<RECIPE> complexRecipes = new HashSet<>();
     private final Function<RECIPE, INGREDIENT_A> inputAExtractor;
     private final Function<RECIPE, INGREDIENT_B> inputBExtractor;
     private final Function<RECIPE, INGREDIENT_C> inputCExtractor;
@@ -49,10 +43,6 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         cacheA.clear();
         cacheB.clear();
         cacheC.clear();
-        complexIngredientA.clear();
-        complexIngredientB.clear();
-        complexIngredientC.clear();
-        complexRecipes.clear();
     }
 
     /**
@@ -64,7 +54,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputA(@Nullable Level world, INPUT_A input) {
-        return containsInput(world, input, inputAExtractor, cacheA, complexIngredientA);
+        return containsInput(world, input, inputAExtractor, cacheA);
     }
 
     /**
@@ -76,7 +66,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputB(@Nullable Level world, INPUT_B input) {
-        return containsInput(world, input, inputBExtractor, cacheB, complexIngredientB);
+        return containsInput(world, input, inputBExtractor, cacheB);
     }
 
     /**
@@ -88,7 +78,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputC(@Nullable Level world, INPUT_C input) {
-        return containsInput(world, input, inputCExtractor, cacheC, complexIngredientC);
+        return containsInput(world, input, inputCExtractor, cacheC);
     }
 
     /**
@@ -107,8 +97,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * {@link #containsInputCAB(Level, Object, Object, Object)} depending on which input is trying to be inserted.
      */
     public boolean containsInputABC(@Nullable Level world, INPUT_A inputA, INPUT_B inputB, INPUT_C inputC) {
-        return containsGrouping(world, inputA, inputAExtractor, cacheA, complexIngredientA, inputB, inputBExtractor, cacheB, complexIngredientB,
-              inputC, inputCExtractor, cacheC, complexIngredientC);
+        return containsGrouping(world, inputA, inputAExtractor, cacheA, inputB, inputBExtractor, cacheB, inputC, inputCExtractor, cacheC);
     }
 
     /**
@@ -127,8 +116,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * {@link #containsInputCAB(Level, Object, Object, Object)} depending on which input is trying to be inserted.
      */
     public boolean containsInputBAC(@Nullable Level world, INPUT_A inputA, INPUT_B inputB, INPUT_C inputC) {
-        return containsGrouping(world, inputB, inputBExtractor, cacheB, complexIngredientB, inputA, inputAExtractor, cacheA, complexIngredientA,
-              inputC, inputCExtractor, cacheC, complexIngredientC);
+        return containsGrouping(world, inputB, inputBExtractor, cacheB, inputA, inputAExtractor, cacheA, inputC, inputCExtractor, cacheC);
     }
 
     /**
@@ -147,8 +135,7 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * {@link #containsInputBAC(Level, Object, Object, Object)} depending on which input is trying to be inserted.
      */
     public boolean containsInputCAB(@Nullable Level world, INPUT_A inputA, INPUT_B inputB, INPUT_C inputC) {
-        return containsGrouping(world, inputC, inputCExtractor, cacheC, complexIngredientC, inputA, inputAExtractor, cacheA, complexIngredientA,
-              inputB, inputBExtractor, cacheB, complexIngredientB);
+        return containsGrouping(world, inputC, inputCExtractor, cacheC, inputA, inputAExtractor, cacheA, inputB, inputBExtractor, cacheB);
     }
 
     /**
@@ -166,22 +153,21 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
     private <INPUT_1, INGREDIENT_1 extends InputIngredient<INPUT_1>, CACHE_1 extends IInputCache<INPUT_1, INGREDIENT_1, RECIPE>,
           INPUT_2, INGREDIENT_2 extends InputIngredient<INPUT_2>, CACHE_2 extends IInputCache<INPUT_2, INGREDIENT_2, RECIPE>,
           INPUT_3, INGREDIENT_3 extends InputIngredient<INPUT_3>, CACHE_3 extends IInputCache<INPUT_3, INGREDIENT_3, RECIPE>> boolean containsGrouping(@Nullable Level world,
-          INPUT_1 input1, Function<RECIPE, INGREDIENT_1> input1Extractor, CACHE_1 cache1, Set<RECIPE> complexIngredients1,
-          INPUT_2 input2, Function<RECIPE, INGREDIENT_2> input2Extractor, CACHE_2 cache2, Set<RECIPE> complexIngredients2,
-          INPUT_3 input3, Function<RECIPE, INGREDIENT_3> input3Extractor, CACHE_3 cache3, Set<RECIPE> complexIngredients3) {
+          INPUT_1 input1, Function<RECIPE, INGREDIENT_1> input1Extractor, CACHE_1 cache1, INPUT_2 input2, Function<RECIPE, INGREDIENT_2> input2Extractor,
+          CACHE_2 cache2, INPUT_3 input3, Function<RECIPE, INGREDIENT_3> input3Extractor, CACHE_3 cache3) {
         if (cache1.isEmpty(input1)) {
             if (cache3.isEmpty(input3)) {
                 //If 1 and 3 are empty just check 2. We have this extra check here as containsPairing will always return true
                 // if the secondary type is empty, but this is the special case when we don't want that to actually happen
-                return containsInput(world, input2, input2Extractor, cache2, complexIngredients2);
+                return containsInput(world, input2, input2Extractor, cache2);
             }
             //Note: We don't bother checking if 2 is empty here as it will be verified in containsPairing
-            return containsPairing(world, input2, input2Extractor, cache2, complexIngredients2, input3, input3Extractor, cache3, complexIngredients3);
+            return containsPairing(world, input2, input2Extractor, cache2, input3, input3Extractor, cache3);
         } else if (cache2.isEmpty(input2)) {
             //Note: We don't bother checking if 3 is empty here as it will be verified in containsPairing
-            return containsPairing(world, input1, input1Extractor, cache1, complexIngredients1, input3, input3Extractor, cache3, complexIngredients3);
+            return containsPairing(world, input1, input1Extractor, cache1, input3, input3Extractor, cache3);
         } else if (cache3.isEmpty(input3)) {
-            return containsPairing(world, input1, input1Extractor, cache1, complexIngredients1, input2, input2Extractor, cache2, complexIngredients2);
+            return containsPairing(world, input1, input1Extractor, cache1, input2, input2Extractor, cache2);
         }
         initCacheIfNeeded(world);
         //Note: If cache 1 contains input 1 then we only need to test the type of input 2 and 3 as we already know input 1 matches
@@ -189,9 +175,9 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             return true;
         }
         //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex
-        return complexIngredients1.stream().anyMatch(recipe -> input1Extractor.apply(recipe).testType(input1) &&
-                                                               input2Extractor.apply(recipe).testType(input2) &&
-                                                               input3Extractor.apply(recipe).testType(input3));
+        return cache1.containsComplex(input1, recipe -> input1Extractor.apply(recipe).testType(input1) &&
+                                                        input2Extractor.apply(recipe).testType(input2) &&
+                                                        input3Extractor.apply(recipe).testType(input3));
     }
 
     /**
@@ -216,28 +202,18 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         Predicate<RECIPE> matchPredicate = r -> r.test(inputA, inputB, inputC);
         //Lookup a recipe from the A input map (the fact that it is A is arbitrary, it just as well could be B or C)
         RECIPE recipe = cacheA.findFirstRecipe(inputA, matchPredicate);
-        // if there is no recipe, then check if any of our complex recipes (either a, b, or c being complex) match
-        return recipe == null ? findFirstRecipe(complexRecipes, matchPredicate) : recipe;
+        // if there is no recipe, then check if any of the recipes that are complex for the A input match. Recipes that are only complex for the B or C input
+        // are still in the A input map, so we don't need to check them
+        return recipe == null ? cacheA.findFirstComplexRecipe(inputA, matchPredicate) : recipe;
     }
 
     @Override
     protected void initCache(List<RECIPE> recipes) {
         for (RECIPE recipe : recipes) {
-            boolean complexA = cacheA.mapInputs(recipe, inputAExtractor.apply(recipe));
-            boolean complexB = cacheB.mapInputs(recipe, inputBExtractor.apply(recipe));
-            boolean complexC = cacheC.mapInputs(recipe, inputCExtractor.apply(recipe));
-            if (complexA) {
-                complexIngredientA.add(recipe);
-            }
-            if (complexB) {
-                complexIngredientB.add(recipe);
-            }
-            if (complexC) {
-                complexIngredientC.add(recipe);
-            }
-            if (complexA || complexB || complexC) {
-                complexRecipes.add(recipe);
-            }
+            //Note: Complex ingredients are tracked by the caches themselves
+            cacheA.mapInputs(recipe, inputAExtractor.apply(recipe));
+            cacheB.mapInputs(recipe, inputBExtractor.apply(recipe));
+            cacheC.mapInputs(recipe, inputCExtractor.apply(recipe));
         }
     }
 }
\ No newline at end of file
@@ -21,10 +21,23 @@ public abstract class BaseInputCache<KEY, INPUT, INGREDIENT extends InputIngredi
      * quicker recipe lookup.
      */
     private final Map<KEY, Set<RECIPE>> inputCache = new HashMap<>();
+    /**
+     * Map of keys representing inputs to a set of the recipes that have a complex ingredient that may contain said input. The recipes still need to be tested against
+     * the input, but this allows only having to test the ones that could match.
+     */
+    private final Map<KEY, Set<RECIPE>> complexInputCache = new HashMap<>();
+    /**
+     * Set of recipes that have a complex ingredient we can't narrow down the possible inputs of, so have to be tested for every input.
+     */
+    private final Set<RECIPE> unindexedComplexRecipes = new HashSet<>();
+    private final UnusedInputCache unusedInputs = new UnusedInputCache();
 
     @Override
     public void clear() {
         inputCache.clear();
+        complexInputCache.clear();
+        unindexedComplexRecipes.clear();
+        unusedInputs.clear();
     }
 
     @Override
@@ -44,6 +57,53 @@ public abstract class BaseInputCache<KEY, INPUT, INGREDIENT extends InputIngredi
         return findFirstRecipe(inputCache.get(createKey(input)), matchCriteria);
     }
 
+    @Override
+    public boolean containsComplex(INPUT input, Predicate<RECIPE> matchCriteria) {
+        Set<RECIPE> recipes = complexInputCache.get(createKey(input));
+        return recipes != null && recipes.stream().anyMatch(matchCriteria) || unindexedComplexRecipes.stream().anyMatch(matchCriteria);
+    }
+
+    @Nullable
+    @Override
+    public RECIPE findFirstComplexRecipe(INPUT input, Predicate<RECIPE> matchCriteria) {
+        RECIPE recipe = findFirstRecipe(complexInputCache.get(createKey(input)), matchCriteria);
+        return recipe == null ? findFirstRecipe(unindexedComplexRecipes, matchCriteria) : recipe;
+    }
+
+    @Override
+    public boolean isKnownUnused(INPUT input) {
+        return unusedInputs.contains(createUnusedKey(input));
+    }
+
+    @Override
+    public void markUnused(INPUT input) {
+        unusedInputs.add(createPersistentUnusedKey(input));
+    }
+
+    /**
+     * Creates a key that fully represents the given input for use in querying our unused input cache.
+     *
+     * @param input Input to convert into a key.
+     *
+     * @return Key representing the given input.
+     *
+     * @apiNote This key can be "raw" to cut down on any copying as it only used for querying and will not be stored.
+     */
+    protected Object createUnusedKey(INPUT input) {
+        return createKey(input);
+    }
+
+    /**
+     * Creates a key that fully represents the given input for storing in our unused input cache.
+     *
+     * @param input Input to convert into a key.
+     *
+     * @return Key representing the given input. Must not be "raw" as we are persisting it.
+     */
+    protected Object createPersistentUnusedKey(INPUT input) {
+        return createKey(input);
+    }
+
     /**
      * Helper to filter a potentially null collection of recipes by a given predicate.
      */
@@ -70,4 +130,23 @@ public abstract class BaseInputCache<KEY, INPUT, INGREDIENT extends InputIngredi
     protected void addInputCache(KEY input, RECIPE recipe) {
         inputCache.computeIfAbsent(input, i -> new HashSet<>()).add(recipe);
     }
+
+    /**
+     * Adds a given recipe with a complex ingredient to the complex input cache using the corresponding key, so that it only gets tested against inputs it may contain.
+     *
+     * @param input  Key representing an input the complex ingredient may contain.
+     * @param recipe Recipe to add.
+     */
+    protected void addComplexInputCache(KEY input, RECIPE recipe) {
+        complexInputCache.computeIfAbsent(input, i -> new HashSet<>()).add(recipe);
+    }
+
+    /**
+     * Adds a given recipe with a complex ingredient that we can't narrow down the inputs of, so that it gets tested against all inputs.
+     *
+     * @param recipe Recipe to add.
+     */
+    protected void addUnindexedComplexRecipe(RECIPE recipe) {
+        unindexedComplexRecipes.add(recipe);
+    }
 }
\ No newline at end of file
@@ -25,6 +25,7 @@ public class ChemicalInputCache<CHEMICAL extends Chemical<CHEMICAL>, STACK exten
         } else {
             //This should never really happen as we don't really allow for custom ingredients especially for networking,
             // but if it does add it as a fallback
+            addUnindexedComplexRecipe(recipe);
             return true;
         }
         return false;
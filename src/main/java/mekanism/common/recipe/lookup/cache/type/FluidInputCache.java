@@ -25,6 +25,7 @@ public class FluidInputCache<RECIPE extends MekanismRecipe> extends NBTSensitive
         } else {
             //This should never really happen as we don't really allow for custom ingredients especially for networking,
             // but if it does add it as a fallback
+            addUnindexedComplexRecipe(recipe);
             return true;
         }
         return false;
@@ -40,6 +41,11 @@ public class FluidInputCache<RECIPE extends MekanismRecipe> extends NBTSensitive
         return HashedFluid.raw(stack);
     }
 
+    @Override
+    protected HashedFluid createPersistentNbtKey(FluidStack stack) {
+        return HashedFluid.create(stack);
+    }
+
     @Override
     public boolean isEmpty(FluidStack input) {
         return input.isEmpty();
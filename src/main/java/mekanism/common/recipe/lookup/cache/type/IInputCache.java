@@ -44,6 +44,44 @@ public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, R
     @Nullable
     RECIPE findFirstRecipe(INPUT input, Predicate<RECIPE> matchCriteria);
 
+    /**
+     * Checks if any of the recipes with a complex ingredient that may contain the given input match the given recipe predicate.
+     *
+     * @param input         Input to check.
+     * @param matchCriteria Predicate to validate recipes with. As the ingredients are complex, this should also check that the input actually matches.
+     *
+     * @return {@code true} if there is a complex recipe that matches, {@code false} if there isn't.
+     */
+    boolean containsComplex(INPUT input, Predicate<RECIPE> matchCriteria);
+
+    /**
+     * Finds the first recipe with a complex ingredient that may contain the given input and matches the given match criteria. Complex ingredients are narrowed down to
+     * the ones that may contain the input type when possible, so this only has to test a small subset of them.
+     *
+     * @param input         Input to check.
+     * @param matchCriteria Predicate to validate recipes with. As the ingredients are complex, this should also check that the input actually matches.
+     *
+     * @return Complex recipe for the given input that matches the given criteria, or {@code null} if no recipe matches.
+     */
+    @Nullable
+    RECIPE findFirstComplexRecipe(INPUT input, Predicate<RECIPE> matchCriteria);
+
+    /**
+     * Checks if we have already determined that no recipe uses the given input.
+     *
+     * @param input Input to check.
+     *
+     * @return {@code true} if the input is known to not be used by any recipe, {@code false} if it is used or if we don't know yet.
+     */
+    boolean isKnownUnused(INPUT input);
+
+    /**
+     * Marks that no recipe uses the given input, so that future checks for it can be skipped until the cache is cleared.
+     *
+     * @param input Input that no recipe uses.
+     */
+    void markUnused(INPUT input);
+
     /**
      * Maps the given ingredient and adds it into this {@link IInputCache} as a quicker lookup for the given recipe.
      *
@@ -9,6 +9,7 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraftforge.common.crafting.CompoundIngredient;
+import net.minecraftforge.common.crafting.PartialNBTIngredient;
 import net.minecraftforge.common.crafting.StrictNBTIngredient;
 
 public class ItemInputCache<RECIPE extends MekanismRecipe> extends NBTSensitiveInputCache<Item, HashedItem, ItemStack, ItemStackIngredient, RECIPE> {
@@ -22,6 +23,7 @@ public class ItemInputCache<RECIPE extends MekanismRecipe> extends NBTSensitiveI
         }
         //This should never really happen as we don't really allow for custom ingredients especially for networking,
         // but if it does add it as a fallback
+        addUnindexedComplexRecipe(recipe);
         return true;
     }
 
@@ -42,9 +44,17 @@ public class ItemInputCache<RECIPE extends MekanismRecipe> extends NBTSensitiveI
         } else if (input instanceof StrictNBTIngredient) {
             //Special handling for forge's NBT Ingredient as it requires an exact NBT match
             addNbtInputCache(HashedItem.create(input.getItems()[0]), recipe);
+        } else if (input instanceof PartialNBTIngredient) {
+            //Forge's partial NBT Ingredient still has to be tested as it only requires some of the NBT to match, but we know exactly which items it can match
+            // so only test it against those items
+            for (ItemStack item : input.getItems()) {
+                addComplexInputCache(item.getItem(), recipe);
+            }
+            return true;
         } else {
             //Else it is a custom ingredient, so we don't have a great way of handling it using the normal extraction checks
             // and instead have to just mark it as complex and test as needed
+            addUnindexedComplexRecipe(recipe);
             return true;
         }
         return false;
@@ -62,6 +72,11 @@ public class ItemInputCache<RECIPE extends MekanismRecipe> extends NBTSensitiveI
         return HashedItem.raw(stack);
     }
 
+    @Override
+    protected HashedItem createPersistentNbtKey(ItemStack stack) {
+        return HashedItem.create(stack);
+    }
+
     @Override
     public boolean isEmpty(ItemStack input) {
         return input.isEmpty();
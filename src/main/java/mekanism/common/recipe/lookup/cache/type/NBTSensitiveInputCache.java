@@ -61,6 +61,26 @@ public abstract class NBTSensitiveInputCache<KEY, NBT_KEY, INPUT, INGREDIENT ext
         return recipe == null ? super.findFirstRecipe(input, matchCriteria) : recipe;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Uses the NBT based key, as complex ingredients may care about the NBT.
+     */
+    @Override
+    protected Object createUnusedKey(INPUT input) {
+        return createNbtKey(input);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Uses the NBT based key, as complex ingredients may care about the NBT.
+     */
+    @Override
+    protected Object createPersistentUnusedKey(INPUT input) {
+        return createPersistentNbtKey(input);
+    }
+
     /**
      * Creates a key for the given input including NBT for use in querying our input cache.
      *
@@ -72,6 +92,15 @@ public abstract class NBTSensitiveInputCache<KEY, NBT_KEY, INPUT, INGREDIENT ext
      */
     protected abstract NBT_KEY createNbtKey(INPUT input);
 
+    /**
+     * Creates a key for the given input including NBT that is safe to store.
+     *
+     * @param input Input to convert into an NBT based key.
+     *
+     * @return Key representing the given input including any NBT data. Must not be "raw" as it may be persisted.
+     */
+    protected abstract NBT_KEY createPersistentNbtKey(INPUT input);
+
     /**
      * Adds a given recipe to the input cache using the corresponding NBT based key.
      *
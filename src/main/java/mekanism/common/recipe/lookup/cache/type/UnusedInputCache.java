@@ -0,0 +1,87 @@
+package mekanism.common.recipe.lookup.cache.type;
+
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of keys representing inputs that we have determined no recipe uses. This lets repeatedly checking invalid inputs, for example from something trying to
+ * insert junk into a machine every tick, skip testing all the complex recipes each time. As the input caches are per recipe type, the results are shared by all machines
+ * of the same recipe type.
+ * <br>
+ * The statistics are tracked across all recipe types, for the purposes of being able to see how effective the caches are.
+ *
+ * @implNote On a dedicated server only the server thread looks up recipes. In single player however, the client and the integrated server share the recipe types, and
+ * with them the input caches, as the client also checks them from things like slot validators. So each cache guards its own inputs so that lookups for different recipe
+ * types never contend, and the statistics use atomic counters as they are shared by all the caches.
+ */
+public class UnusedInputCache {
+
+    /**
+     * Max number of unused inputs to keep track of per input cache, after which we stop keeping track of the inputs that were added the longest ago.
+     */
+    private static final int MAX_SIZE = 1_024;
+
+    private static final AtomicInteger entries = new AtomicInteger();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+
+    private final ObjectLinkedOpenHashSet<Object> unusedInputs = new ObjectLinkedOpenHashSet<>();
+
+    /**
+     * Checks if the given key is known to be unused.
+     *
+     * @param key Key representing the input. May be "raw" as it will not be stored.
+     */
+    public boolean contains(Object key) {
+        boolean contains;
+        synchronized (unusedInputs) {
+            contains = unusedInputs.contains(key);
+        }
+        (contains ? hits : misses).increment();
+        return contains;
+    }
+
+    /**
+     * Marks the given key as being unused.
+     *
+     * @param key Key representing the input. Must not be "raw" as we are persisting it.
+     */
+    public void add(Object key) {
+        synchronized (unusedInputs) {
+            if (unusedInputs.add(key)) {
+                if (unusedInputs.size() > MAX_SIZE) {
+                    unusedInputs.removeFirst();
+                    evictions.increment();
+                } else {
+                    entries.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (unusedInputs) {
+            entries.addAndGet(-unusedInputs.size());
+            unusedInputs.clear();
+        }
+    }
+
+    public static void resetStats() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    public static CacheStats getStats() {
+        return new CacheStats(entries.get(), hits.sum(), misses.sum(), evictions.sum());
+    }
+    public record CacheStats(int entries, long hits, long misses, long evictions) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : hits / (double) lookups;
+        }
+    }
+}
@@ -16,6 +16,8 @@ import mekanism.common.capabilities.holder.energy.IEnergyContainerHolder;
 import mekanism.common.entity.EntityRobit;
 import mekanism.common.integration.curios.CuriosIntegration;
 import mekanism.common.integration.energy.EnergyCompatUtils;
+import mekanism.common.lib.EntityQueryCache;
+import mekanism.common.lib.EntityQueryCache.AreaWatch;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.MekanismUtils;
@@ -38,6 +40,7 @@ public class TileEntityChargepad extends TileEntityMekanism {
 
     private static final Predicate<LivingEntity> CHARGE_PREDICATE = entity -> !entity.isSpectator() && (entity instanceof Player || entity instanceof EntityRobit);
 
+    private final AreaWatch chargeWatch = new AreaWatch();
     private MachineEnergyContainer<TileEntityChargepad> energyContainer;
 
     public TileEntityChargepad(BlockPos pos, BlockState state) {
@@ -57,8 +60,9 @@ public class TileEntityChargepad extends TileEntityMekanism {
         super.onUpdateServer();
         boolean active = false;
         //Use 0.4 for y to catch entities that are partially standing on the back pane
-        List<LivingEntity> entities = level.getEntitiesOfClass(LivingEntity.class, new AABB(worldPosition.getX(), worldPosition.getY(), worldPosition.getZ(),
-              worldPosition.getX() + 1, worldPosition.getY() + 0.4, worldPosition.getZ() + 1), CHARGE_PREDICATE);
+        //Note: We use a watch so that when nothing is near the chargepad we don't have to look for entities until something comes near
+        List<LivingEntity> entities = EntityQueryCache.getEntitiesOfClass(level, LivingEntity.class, new AABB(worldPosition.getX(), worldPosition.getY(),
+              worldPosition.getZ(), worldPosition.getX() + 1, worldPosition.getY() + 0.4, worldPosition.getZ() + 1), CHARGE_PREDICATE, chargeWatch);
         for (LivingEntity entity : entities) {
             active = !energyContainer.isEmpty();
             if (!active) {
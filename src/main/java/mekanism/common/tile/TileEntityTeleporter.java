@@ -38,6 +38,8 @@ import mekanism.common.integration.computer.annotation.WrappingComputerMethod;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableByte;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
+import mekanism.common.lib.EntityQueryCache;
+import mekanism.common.lib.EntityQueryCache.AreaWatch;
 import mekanism.common.lib.chunkloading.IChunkLoader;
 import mekanism.common.lib.frequency.Frequency.FrequencyIdentity;
 import mekanism.common.lib.frequency.FrequencyType;
@@ -86,6 +88,7 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
 
     public final Set<UUID> didTeleport = new ObjectOpenHashSet<>();
     private AABB teleportBounds;
+    private final AreaWatch teleportWatch = new AreaWatch();
     public int teleDelay = 0;
     public boolean shouldRender;
     @Nullable
@@ -191,7 +194,9 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     }
 
     private void cleanTeleportCache() {
-        List<UUID> inTeleporter = level.getEntitiesOfClass(Entity.class, teleportBounds).stream().map(Entity::getUUID).toList();
+        List<UUID> inTeleporter = EntityQueryCache.getEntitiesOfClass(level, Entity.class, teleportBounds, entity -> true, teleportWatch).stream()
+              .map(Entity::getUUID)
+              .toList();
         if (inTeleporter.isEmpty()) {
             didTeleport.clear();
         } else {
@@ -428,9 +433,9 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
         //Don't get entities that are currently spectator, are a passenger, are part entities (as the parent entity should be what we teleport),
         // entities that cannot change dimensions if we are teleporting to another dimension, or entities that recently teleported
         //Note: Passengers get handled separately
-        return level == null || teleportBounds == null ? Collections.emptyList() : level.getEntitiesOfClass(Entity.class, teleportBounds,
+        return level == null || teleportBounds == null ? Collections.emptyList() : EntityQueryCache.getEntitiesOfClass(level, Entity.class, teleportBounds,
               entity -> !entity.isSpectator() && !entity.isPassenger() && !(entity instanceof PartEntity) &&
-                        (sameDimension || entity.canChangeDimensions()) && !didTeleport.contains(entity.getUUID()));
+                        (sameDimension || entity.canChangeDimensions()) && !didTeleport.contains(entity.getUUID()), teleportWatch);
     }
 
     /**
@@ -4,7 +4,6 @@ import java.util.Objects;
 import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
 import mekanism.common.Mekanism;
-import mekanism.common.network.to_client.PacketUpdateTile;
 import mekanism.common.registration.impl.TileEntityTypeRegistryObject;
 import mekanism.common.tile.interfaces.ITileWrapper;
 import mekanism.common.util.WorldUtils;
@@ -154,8 +153,9 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
         } else {
             //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
             // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
-            // does not need to and should not be redrawn
-            Mekanism.packetHandler().sendToAllTracking(new PacketUpdateTile(this), tracking);
+            // does not need to and should not be redrawn. The update is queued and sent at the end of the tick so that
+            // we only sync each tile once per tick even if it requests multiple updates
+            TileUpdateQueue.queue(this, tracking);
         }
     }
 
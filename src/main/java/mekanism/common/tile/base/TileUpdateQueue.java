@@ -0,0 +1,227 @@
+package mekanism.common.tile.base;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArraySet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import mekanism.common.Mekanism;
+import mekanism.common.lib.UpdateTagDelta;
+import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.network.to_client.PacketUpdateTile.TileUpdate;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Queue of tiles that need to send an update packet to the players tracking them. Tiles are only synced once per tick no matter how many times they requested an
+ * update, and the updates for all the tiles a player is tracking are bundled into as few packets as possible, which also lets the connection compress them together.
+ * <br>
+ * For each player we keep track of the last update tag they were sent for each tile, so that after the first update only the fields that changed have to be sent.
+ */
+public class TileUpdateQueue {
+
+    /**
+     * Max number of tiles to sync in a single packet, so that a lot of large tiles updating at once can't make the packet too large.
+     */
+    private static final int MAX_TILES_PER_PACKET = 32;
+    /**
+     * Number of delta updates we send for a tile before sending a full update again, so that if the client ever loses track of a tile it can recover.
+     */
+    private static final int MAX_DELTAS_BEFORE_FULL = 100;
+
+    //Note: Keyed by identity as tiles don't override equals. The value is the set of tiles whose trackers should receive the update.
+    private static final Reference2ObjectMap<TileEntityUpdateable, Set<BlockEntity>> queuedUpdates = new Reference2ObjectLinkedOpenHashMap<>();
+    private static final Map<UUID, PlayerBaselines> playerBaselines = new Object2ObjectOpenHashMap<>();
+    //Client side only, chunk pos -> block pos -> last update tag
+    private static final Long2ObjectMap<Long2ObjectMap<CompoundTag>> clientBaselines = new Long2ObjectOpenHashMap<>();
+    @Nullable
+    private static Level clientBaselineLevel;
+
+    private TileUpdateQueue() {
+    }
+
+    /**
+     * Queues an update for the given tile to be sent to all players tracking the given tile at the end of the tick.
+     *
+     * @param tile     Tile to sync.
+     * @param tracking Tile to send the update to the players tracking. Normally this is the same as the tile being synced.
+     */
+    static void queue(TileEntityUpdateable tile, BlockEntity tracking) {
+        queuedUpdates.computeIfAbsent(tile, t -> new ReferenceArraySet<>(1)).add(tracking);
+    }
+
+    /**
+     * Sends all the queued updates.
+     */
+    public static void flush() {
+        if (queuedUpdates.isEmpty()) {
+            return;
+        }
+        Object2ObjectMap<ServerPlayer, List<TileUpdate>> playerUpdates = new Object2ObjectLinkedOpenHashMap<>();
+        for (Map.Entry<TileEntityUpdateable, Set<BlockEntity>> entry : queuedUpdates.entrySet()) {
+            TileEntityUpdateable tile = entry.getKey();
+            //Skip any tiles that have been removed or unloaded since they requested an update
+            if (!tile.isRemoved() && tile.getLevel() instanceof ServerLevel level) {
+                //Note: We lazily create the update tag so that if nobody is tracking the tile we don't need to create it
+                CompoundTag updateTag = null;
+                for (BlockEntity tracking : entry.getValue()) {
+                    for (ServerPlayer player : level.getChunkSource().chunkMap.getPlayers(new ChunkPos(tracking.getBlockPos()), false)) {
+                        if (updateTag == null) {
+                            updateTag = tile.getReducedUpdateTag();
+                        }
+                        //Note: If there are multiple trackers for the same tile, the second time we try to send to the same player nothing will have changed
+                        // so no update will be created
+                        TileUpdate update = createUpdate(player, level.dimension(), tile.getBlockPos(), updateTag);
+                        if (update != null) {
+                            playerUpdates.computeIfAbsent(player, p -> new ArrayList<>()).add(update);
+                        }
+                    }
+                }
+            }
+        }
+        queuedUpdates.clear();
+        for (Object2ObjectMap.Entry<ServerPlayer, List<TileUpdate>> entry : playerUpdates.object2ObjectEntrySet()) {
+            ServerPlayer player = entry.getKey();
+            List<TileUpdate> updates = entry.getValue();
+            for (int start = 0, size = updates.size(); start < size; start += MAX_TILES_PER_PACKET) {
+                Mekanism.packetHandler().sendTo(new PacketUpdateTile(updates.subList(start, Math.min(size, start + MAX_TILES_PER_PACKET))), player);
+            }
+        }
+    }
+
+    /**
+     * Creates the update to send to the given player, and updates what we have last sent the player for the tile.
+     *
+     * @return The update, or {@code null} if nothing changed since the last update the player was sent.
+     */
+    @Nullable
+    private static TileUpdate createUpdate(ServerPlayer player, ResourceKey<Level> dimension, BlockPos pos, CompoundTag updateTag) {
+        PlayerBaselines baselines = playerBaselines.get(player.getUUID());
+        if (baselines == null || baselines.dimension != dimension) {
+            baselines = new PlayerBaselines(dimension);
+            playerBaselines.put(player.getUUID(), baselines);
+        }
+        Long2ObjectMap<Baseline> chunkBaselines = baselines.byChunk.computeIfAbsent(chunkKey(pos), c -> new Long2ObjectOpenHashMap<>());
+        long packedPos = pos.asLong();
+        Baseline baseline = chunkBaselines.get(packedPos);
+        if (baseline == null || baseline.deltasSinceFull >= MAX_DELTAS_BEFORE_FULL) {
+            //Note: The update tag is not modified after creation, so it is safe to share it between the players and the baseline
+            chunkBaselines.put(packedPos, new Baseline(updateTag));
+            return TileUpdate.full(pos, updateTag);
+        }
+        UpdateTagDelta delta = UpdateTagDelta.create(baseline.tag, updateTag);
+        if (delta == null) {
+            return null;
+        }
+        baseline.tag = updateTag;
+        baseline.deltasSinceFull++;
+        return TileUpdate.delta(pos, delta);
+    }
+
+    /**
+     * Called when a player stops tracking a chunk, as when they start tracking it again they will be sent the full state of the chunk.
+     */
+    public static void stopTracking(UUID player, ResourceKey<Level> dimension, ChunkPos chunk) {
+        PlayerBaselines baselines = playerBaselines.get(player);
+        if (baselines != null && baselines.dimension == dimension) {
+            baselines.byChunk.remove(chunk.toLong());
+        }
+    }
+
+    public static void clearPlayer(UUID player) {
+        playerBaselines.remove(player);
+    }
+
+    /**
+     * Gets the full update tag for the given update, and keeps track of it for applying future updates.
+     *
+     * @return The full update tag, or {@code null} if the update is a delta against a tag we don't know about.
+     *
+     * @apiNote Only call on the client.
+     */
+    @Nullable
+    public static CompoundTag receiveUpdate(Level level, TileUpdate update) {
+        if (level != clientBaselineLevel) {
+            clientBaselines.clear();
+            clientBaselineLevel = level;
+        }
+        long chunk = chunkKey(update.pos());
+        long pos = update.pos().asLong();
+        CompoundTag updateTag;
+        if (update.delta() == null) {
+            updateTag = update.updateTag();
+        } else {
+            Long2ObjectMap<CompoundTag> chunkBaselines = clientBaselines.get(chunk);
+            CompoundTag baseline = chunkBaselines == null ? null : chunkBaselines.get(pos);
+            if (baseline == null) {
+                return null;
+            }
+            updateTag = update.delta().apply(baseline);
+        }
+        if (updateTag != null) {
+            clientBaselines.computeIfAbsent(chunk, c -> new Long2ObjectOpenHashMap<>()).put(pos, updateTag);
+        }
+        return updateTag;
+    }
+
+    /**
+     * Called when a chunk unloads on the client, as the server will send the full state of the chunk again if the client starts tracking it again.
+     *
+     * @apiNote Only call on the client.
+     */
+    public static void unloadClientChunk(Level level, ChunkPos chunk) {
+        if (level == clientBaselineLevel) {
+            clientBaselines.remove(chunk.toLong());
+        }
+    }
+
+    private static long chunkKey(BlockPos pos) {
+        return ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+
+    public static void reset() {
+        queuedUpdates.clear();
+        playerBaselines.clear();
+    }
+
+    public static void resetClient() {
+        clientBaselines.clear();
+        clientBaselineLevel = null;
+    }
+
+    private static class PlayerBaselines {
+
+        private final Long2ObjectMap<Long2ObjectMap<Baseline>> byChunk = new Long2ObjectOpenHashMap<>();
+        private final ResourceKey<Level> dimension;
+
+        private PlayerBaselines(ResourceKey<Level> dimension) {
+            this.dimension = dimension;
+        }
+    }
+
+    private static class Baseline {
+
+        private CompoundTag tag;
+        private int deltasSinceFull;
+
+        private Baseline(CompoundTag tag) {
+            this.tag = tag;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -40,6 +41,7 @@ import mekanism.common.capabilities.resolver.BasicCapabilityResolver;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.filter.SortableFilterManager;
 import mekanism.common.content.miner.MinerFilter;
+import mekanism.common.content.miner.MinerAcceptanceCache;
 import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.miner.ThreadMinerSearch.State;
 import mekanism.common.integration.computer.ComputerException;
@@ -118,9 +120,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     public static final int DEFAULT_RADIUS = 10;
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private final SortableFilterManager<MinerFilter<?>> filterManager = new SortableFilterManager<MinerFilter<?>>((Class) MinerFilter.class, this::markForSave);
+    private final SortableFilterManager<MinerFilter<?>> filterManager = new SortableFilterManager<MinerFilter<?>>((Class) MinerFilter.class, this::onFiltersChanged);
+    private final MinerAcceptanceCache acceptanceCache = new MinerAcceptanceCache(this);
     private Long2ObjectMap<BitSet> oresToMine = Long2ObjectMaps.emptyMap();
-    public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
+    public ThreadMinerSearch searcher = new ThreadMinerSearch(this, acceptanceCache);
 
     private int radius;
     private boolean inverse;
@@ -219,6 +222,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     protected void onUpdateServer() {
         super.onUpdateServer();
         closeInvalidScreens();
+        if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            //Tags may have changed which blocks our filters match
+            acceptanceCache.invalidate();
+        }
         if (!initCalc) {
             //If it had finished searching, and we didn't initialize things yet,
             // reset it and start running again if needed. This happens after saving the miner to disk
@@ -241,8 +248,12 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             tryAddOverflow();
         }
 
+        //Pick up any chunks that have finished being searched, so we can start mining them while the rest of the area is still being searched
+        searcher.collectResults();
+
         //Note: If we have any overflow don't function or use any energy until the overflow has been dealt with
-        if (!hasOverflow && MekanismUtils.canFunction(this) && running && searcher.state == State.FINISHED && !oresToMine.isEmpty()) {
+        if (!hasOverflow && MekanismUtils.canFunction(this) && running && (searcher.state == State.SEARCHING || searcher.state == State.FINISHED) &&
+            !oresToMine.isEmpty()) {
             FloatingLong energyPerTick = energyContainer.getEnergyPerTick();
             if (energyContainer.extract(energyPerTick, Action.SIMULATE, AutomationType.INTERNAL).equals(energyPerTick)) {
                 setActive(true);
@@ -287,10 +298,19 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         }
     }
 
-    public void updateFromSearch(Long2ObjectMap<BitSet> oresToMine, int found) {
-        this.oresToMine = oresToMine;
-        cachedToMine = found;
-        updateTargetChunk(null);
+    private void onFiltersChanged() {
+        acceptanceCache.invalidate();
+        markForSave();
+    }
+
+    /**
+     * Adds the blocks to mine in a chunk that has finished being searched.
+     *
+     * @apiNote Only call this from the server thread.
+     */
+    public void addSearchResult(long chunk, BitSet toMine) {
+        oresToMine.put(chunk, toMine);
+        cachedToMine += toMine.cardinality();
         markForSave();
     }
 
@@ -349,6 +369,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public void toggleInverse() {
         inverse = !inverse;
+        acceptanceCache.invalidate();
         markForSave();
     }
 
@@ -360,6 +381,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     public void setInverseReplaceTarget(Item target) {
         if (target != inverseReplaceTarget) {
             inverseReplaceTarget = target;
+            acceptanceCache.invalidate();
             markForSave();
         }
     }
@@ -766,6 +788,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             BlockPos startingPos = getStartingPos();
             int diameter = getDiameter();
             searcher.setChunkCache(new PathNavigationRegion(getLevel(), startingPos, startingPos.offset(diameter, getMaxY() - getMinY() + 1, diameter)));
+            oresToMine = new Long2ObjectOpenHashMap<>();
             searcher.start();
         }
         running = true;
@@ -773,10 +796,9 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     }
 
     public void stop() {
-        if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
-            reset();
-        } else if (searcher.state == State.FINISHED) {
+        //Note: As we mine chunks while the rest of the area is still being searched, we don't reset if the searcher is still searching,
+        // so that the search can keep going and the chunks it has already found aren't thrown away
+        if (searcher.state == State.SEARCHING || searcher.state == State.FINISHED) {
             running = false;
             markForSave();
             //Reset the target chunk, so it isn't loaded as we might don't want to let the user just have two chunks loaded
@@ -786,8 +808,9 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     }
 
     public void reset() {
-        //TODO: Should the old searcher thread be terminated somehow?
-        searcher = new ThreadMinerSearch(this);
+        //Stop the old searcher from searching any chunks it hasn't gotten to yet
+        searcher.cancel();
+        searcher = new ThreadMinerSearch(this, acceptanceCache);
         running = false;
         cachedToMine = 0;
         oresToMine = Long2ObjectMaps.emptyMap();
@@ -1010,6 +1033,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         inverseReplaceTarget = NBTUtils.readRegistryEntry(dataMap, NBTConstants.REPLACE_STACK, ForgeRegistries.ITEMS, Items.AIR);
         NBTUtils.setBooleanIfPresent(dataMap, NBTConstants.INVERSE_REQUIRES_REPLACE, requiresReplace -> inverseRequiresReplacement = requiresReplace);
         filterManager.readFromNBT(dataMap);
+        acceptanceCache.invalidate();
         //Note: We read the overflow information if it is present in sustained data in order to grab the information from the digital miner item
         // when it is placed or when the BE is loaded from NBT, but the corresponding writing of the data is done in the saveAdditional method
         // as opposed to the writeSustainedData method to ensure that configuration cards do not copy overflow data from one miner to another
@@ -1180,7 +1204,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     @ComputerMethod
     public int getToMine() {
-        return !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine;
+        return cachedToMine;
     }
 
     @ComputerMethod
@@ -1,11 +1,8 @@
 package mekanism.common.tile.machine;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.IConfigurable;
@@ -37,6 +34,7 @@ import mekanism.common.inventory.container.sync.SyncableBoolean;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FluidInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
+import mekanism.common.lib.collection.FloodFillFrontier;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.registries.MekanismFluids;
 import mekanism.common.tile.base.SubstanceType;
@@ -94,9 +92,9 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
     public int operatingTicks;
     private boolean usedEnergy = false;
     /**
-     * The nodes that have full sources near them or in them
+     * The nodes that have full sources near them or in them, and which positions have already been checked for sources
      */
-    private final Set<BlockPos> recurringNodes = new ObjectOpenHashSet<>();
+    private final FloodFillFrontier recurringNodes = new FloodFillFrontier();
 
     private MachineEnergyContainer<TileEntityElectricPump> energyContainer;
     @WrappingComputerMethod(wrapper = ComputerIInventorySlotWrapper.class, methodNames = "getInputItem")
@@ -179,29 +177,33 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
 
     private boolean suck() {
         boolean hasFilter = upgradeComponent.isUpgradeInstalled(Upgrade.FILTER);
+        //If we have run out of nodes, start the flood fill over so that if the block below us gets refilled we spread out from it again
+        recurringNodes.restartIfDrained();
         //First see if there are any fluid blocks under the pump - if so, suck and adds the location to the recurring list
         if (suck(worldPosition.relative(Direction.DOWN), hasFilter, true)) {
             return true;
         }
-        //Even though we can add to recurring in the above for loop, we always then exit and don't get to here if we did so
-        List<BlockPos> tempPumpList = new ArrayList<>(recurringNodes);
-        Collections.shuffle(tempPumpList);
-        //Finally, go over the recurring list of nodes and see if there is a fluid block available to suck - if not, will iterate around the recurring block, attempt to suck,
-        //and then add the adjacent block to the recurring list
-        for (BlockPos tempPumpPos : tempPumpList) {
+        int maxPumpRange = MekanismConfig.general.maxPumpRange.get();
+        //Finally, go over the recurring list of nodes in the order we found them and see if there is a fluid block available to suck - if not, will iterate around the
+        // recurring block, attempt to suck any adjacent blocks we haven't checked yet, and then add them to the recurring list. Once there is nothing left to suck
+        // around a node, we move on to the next one
+        while (!recurringNodes.isEmpty()) {
+            BlockPos tempPumpPos = BlockPos.of(recurringNodes.firstLong());
             if (suck(tempPumpPos, hasFilter, false)) {
                 return true;
             }
-            //Add all the blocks surrounding this recurring node to the recurring node list
             for (Direction orientation : EnumUtils.DIRECTIONS) {
                 BlockPos side = tempPumpPos.relative(orientation);
-                if (WorldUtils.distanceBetween(worldPosition, side) <= MekanismConfig.general.maxPumpRange.get()) {
+                long sidePos = side.asLong();
+                //Note: Positions only get marked as visited once we suck from them, so that if a position we checked wasn't a source yet, such as flowing fluid
+                // that later becomes a source, we check it again from any other nodes next to it
+                if (!recurringNodes.isVisited(sidePos) && WorldUtils.distanceBetween(worldPosition, side) <= maxPumpRange && WorldUtils.isBlockLoaded(level, side)) {
                     if (suck(side, hasFilter, true)) {
                         return true;
                     }
                 }
             }
-            recurringNodes.remove(tempPumpPos);
+            recurringNodes.dequeueLong();
         }
         return false;
     }
@@ -268,7 +270,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         //Size doesn't matter, but we do want to take the NBT into account
         activeType = new FluidStack(fluidStack, 1);
         if (addRecurring) {
-            recurringNodes.add(pos);
+            recurringNodes.visit(pos.asLong());
         }
         fluidTank.insert(fluidStack, Action.EXECUTE, AutomationType.INTERNAL);
         level.gameEvent(null, GameEvent.FLUID_PICKUP, pos);
@@ -299,9 +301,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         }
         if (!recurringNodes.isEmpty()) {
             ListTag recurringList = new ListTag();
-            for (BlockPos nodePos : recurringNodes) {
-                recurringList.add(NbtUtils.writeBlockPos(nodePos));
-            }
+            recurringNodes.forEachQueued(nodePos -> recurringList.add(NbtUtils.writeBlockPos(BlockPos.of(nodePos))));
             nbtTags.put(NBTConstants.RECURRING_NODES, recurringList);
         }
     }
@@ -314,7 +314,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         if (nbt.contains(NBTConstants.RECURRING_NODES, Tag.TAG_LIST)) {
             ListTag tagList = nbt.getList(NBTConstants.RECURRING_NODES, Tag.TAG_COMPOUND);
             for (int i = 0; i < tagList.size(); i++) {
-                recurringNodes.add(NbtUtils.readBlockPos(tagList.getCompound(i)));
+                recurringNodes.visit(NbtUtils.readBlockPos(tagList.getCompound(i)).asLong());
             }
         }
     }
@@ -1,10 +1,9 @@
 package mekanism.common.tile.machine;
 
-import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.IConfigurable;
@@ -35,6 +34,7 @@ import mekanism.common.inventory.container.sync.SyncableBoolean;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FluidInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
+import mekanism.common.lib.collection.FloodFillFrontier;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.base.SubstanceType;
 import mekanism.common.tile.base.TileEntityMekanism;
@@ -67,8 +67,11 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
      * How many ticks it takes to run an operation.
      */
     public static final int BASE_TICKS_REQUIRED = 20;
-    private final Set<BlockPos> activeNodes = new ObjectLinkedOpenHashSet<>();
-    private final Set<BlockPos> usedNodes = new ObjectOpenHashSet<>();
+    /**
+     * The nodes that are still to be filled are queued in the frontier, and every node that has been queued at some point is marked as visited. Nodes that are visited
+     * but no longer queued are the used nodes.
+     */
+    private final FloodFillFrontier nodes = new FloodFillFrontier();
     public boolean finishedCalc;
     public int ticksRequired = BASE_TICKS_REQUIRED;
     /**
@@ -159,28 +162,33 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
         return fluidTank.extract(FluidType.BUCKET_VOLUME, Action.SIMULATE, AutomationType.INTERNAL).getAmount() == FluidType.BUCKET_VOLUME;
     }
 
+    private int getUsedNodes() {
+        return nodes.visitedCount() - nodes.size();
+    }
+
     private void doPlenish() {
-        if (usedNodes.size() >= MekanismConfig.general.maxPlenisherNodes.get()) {
+        if (getUsedNodes() >= MekanismConfig.general.maxPlenisherNodes.get()) {
             finishedCalc = true;
             return;
         }
-        if (activeNodes.isEmpty()) {
-            if (usedNodes.isEmpty()) {
+        if (nodes.isEmpty()) {
+            if (nodes.visitedCount() == 0) {
                 BlockPos below = getBlockPos().below();
                 if (!canReplace(below, true, true)) {
                     finishedCalc = true;
                     return;
                 }
-                activeNodes.add(below);
+                nodes.visit(below.asLong());
             } else {
                 finishedCalc = true;
                 return;
             }
         }
-        Set<BlockPos> toRemove = new ObjectOpenHashSet<>();
-        for (BlockPos nodePos : activeNodes) {
+        //Skip past any unloaded nodes, marking them as used, until we find one we can fill
+        while (!nodes.isEmpty()) {
+            BlockPos nodePos = BlockPos.of(nodes.dequeueLong());
             if (WorldUtils.isBlockLoaded(level, nodePos)) {
-                if (canReplace(nodePos, true, false) && canExtractBucket() &&
+                if (canReplace(nodePos, false, false) && canExtractBucket() &&
                     WorldUtils.tryPlaceContainedLiquid(null, level, nodePos, fluidTank.getFluid(), null)) {
                     level.gameEvent(null, GameEvent.FLUID_PLACE, nodePos);
                     fluidTank.extract(FluidType.BUCKET_VOLUME, Action.EXECUTE, AutomationType.INTERNAL);
@@ -188,21 +196,16 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
                 for (Direction dir : dirs) {
                     BlockPos sidePos = nodePos.relative(dir);
                     if (WorldUtils.isBlockLoaded(level, sidePos) && canReplace(sidePos, true, true)) {
-                        activeNodes.add(sidePos);
+                        nodes.visit(sidePos.asLong());
                     }
                 }
-                toRemove.add(nodePos);
                 break;
-            } else {
-                toRemove.add(nodePos);
             }
         }
-        usedNodes.addAll(toRemove);
-        activeNodes.removeAll(toRemove);
     }
 
     private boolean canReplace(BlockPos pos, boolean checkNodes, boolean isPathfinding) {
-        if (checkNodes && usedNodes.contains(pos)) {
+        if (checkNodes && nodes.isVisited(pos.asLong())) {
             return false;
         }
         BlockState state = level.getBlockState(pos);
@@ -238,18 +241,22 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
         super.saveAdditional(nbtTags);
         nbtTags.putInt(NBTConstants.PROGRESS, operatingTicks);
         nbtTags.putBoolean(NBTConstants.FINISHED, finishedCalc);
-        if (!activeNodes.isEmpty()) {
+        LongSet activeNodes = new LongOpenHashSet(nodes.size());
+        if (!nodes.isEmpty()) {
             ListTag activeList = new ListTag();
-            for (BlockPos wrapper : activeNodes) {
-                activeList.add(NbtUtils.writeBlockPos(wrapper));
-            }
+            nodes.forEachQueued(nodePos -> {
+                activeNodes.add(nodePos);
+                activeList.add(NbtUtils.writeBlockPos(BlockPos.of(nodePos)));
+            });
             nbtTags.put(NBTConstants.ACTIVE_NODES, activeList);
         }
-        if (!usedNodes.isEmpty()) {
+        if (getUsedNodes() > 0) {
             ListTag usedList = new ListTag();
-            for (BlockPos obj : usedNodes) {
-                usedList.add(NbtUtils.writeBlockPos(obj));
-            }
+            nodes.forEachVisited(nodePos -> {
+                if (!activeNodes.contains(nodePos)) {
+                    usedList.add(NbtUtils.writeBlockPos(BlockPos.of(nodePos)));
+                }
+            });
             nbtTags.put(NBTConstants.USED_NODES, usedList);
         }
     }
@@ -262,20 +269,19 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
         if (nbt.contains(NBTConstants.ACTIVE_NODES, Tag.TAG_LIST)) {
             ListTag tagList = nbt.getList(NBTConstants.ACTIVE_NODES, Tag.TAG_COMPOUND);
             for (int i = 0; i < tagList.size(); i++) {
-                activeNodes.add(NbtUtils.readBlockPos(tagList.getCompound(i)));
+                nodes.visit(NbtUtils.readBlockPos(tagList.getCompound(i)).asLong());
             }
         }
         if (nbt.contains(NBTConstants.USED_NODES, Tag.TAG_LIST)) {
             ListTag tagList = nbt.getList(NBTConstants.USED_NODES, Tag.TAG_COMPOUND);
             for (int i = 0; i < tagList.size(); i++) {
-                usedNodes.add(NbtUtils.readBlockPos(tagList.getCompound(i)));
+                nodes.markVisited(NbtUtils.readBlockPos(tagList.getCompound(i)).asLong());
             }
         }
     }
 
     public void reset() {
-        activeNodes.clear();
-        usedNodes.clear();
+        nodes.clear();
         finishedCalc = false;
     }
 
@@ -10,6 +10,7 @@ import mekanism.common.integration.energy.EnergyCompatUtils;
 import mekanism.common.tier.InductionCellTier;
 import mekanism.common.tile.prefab.TileEntityInternalMultiblock;
 import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
 
@@ -17,6 +18,7 @@ public class TileEntityInductionCell extends TileEntityInternalMultiblock {
 
     private MachineEnergyContainer<TileEntityInductionCell> energyContainer;
     public InductionCellTier tier;
+    private boolean unsavedEnergy;
 
     public TileEntityInductionCell(IBlockProvider blockProvider, BlockPos pos, BlockState state) {
         super(blockProvider, pos, state);
@@ -28,10 +30,23 @@ public class TileEntityInductionCell extends TileEntityInternalMultiblock {
     @Override
     protected IEnergyContainerHolder getInitialEnergyContainers(IContentsListener listener) {
         EnergyContainerHelper builder = EnergyContainerHelper.forSide(this::getDirection);
-        builder.addContainer(energyContainer = MachineEnergyContainer.internal(this, listener));
+        builder.addContainer(energyContainer = MachineEnergyContainer.internal(this, () -> {
+            //The energy of the cells in a matrix that is in use changes nearly every tick, so only mark the cell as needing to be saved the first time it changes
+            // after having been saved, rather than every time
+            if (!unsavedEnergy) {
+                unsavedEnergy = true;
+                listener.onContentsChanged();
+            }
+        }));
         return builder.build();
     }
 
+    @Override
+    public void saveAdditional(@NotNull CompoundTag nbtTags) {
+        super.saveAdditional(nbtTags);
+        unsavedEnergy = false;
+    }
+
     @Override
     protected void presetVariables() {
         super.presetVariables();
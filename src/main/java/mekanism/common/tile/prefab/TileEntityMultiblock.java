@@ -2,6 +2,7 @@ package mekanism.common.tile.prefab;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mekanism.api.IConfigurable;
 import mekanism.api.IContentsListener;
@@ -117,7 +118,12 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
         T multiblock = getMultiblock();
         if (isMaster() && multiblock.isFormed() && multiblock.recheckStructure) {
             multiblock.recheckStructure = false;
-            getStructure().doImmediateUpdate(this, ticker % 10 == 0);
+            Set<BlockPos> recheckPositions = multiblock.takeRecheckPositions();
+            if (recheckPositions == null) {
+                getStructure().doImmediateUpdate(this, ticker % 10 == 0);
+            } else {
+                getStructure().doImmediateUpdate(this, recheckPositions, ticker % 10 == 0);
+            }
             multiblock = getMultiblock();
         }
         if (multiblock.isFormed()) {
@@ -356,7 +362,7 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
                     // then we mark the structure as needing to be re-validated
                     //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
                     // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
-                    getStructure().markForUpdate(level, true);
+                    getStructure().markInteriorForUpdate(level, neighborPos);
                 }
             }
         }
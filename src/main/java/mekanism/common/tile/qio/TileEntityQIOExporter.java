@@ -8,12 +8,11 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.Function;
-import java.util.function.ToIntFunction;
+import java.util.function.ToIntBiFunction;
 import mekanism.api.NBTConstants;
 import mekanism.api.math.MathUtils;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.QIOFrequency;
-import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
 import mekanism.common.content.qio.filter.QIOFilter;
 import mekanism.common.content.qio.filter.QIOItemStackFilter;
 import mekanism.common.content.qio.filter.QIOModIDFilter;
@@ -46,10 +45,10 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
     private int delay = 0;
     private boolean exportWithoutFilter;
 
-    private final EfficientEjector<Object2LongMap.Entry<HashedItem>> filterEjector = new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getLongValue()),
-          freq -> getFilterEjectMap(freq).object2LongEntrySet());
-    private final EfficientEjector<Map.Entry<HashedItem, QIOItemTypeData>> filterlessEjector =
-          new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getValue().getCount()), freq -> freq.getItemDataMap().entrySet());
+    private final EfficientEjector<Object2LongMap.Entry<HashedItem>> filterEjector = new EfficientEjector<>(Entry::getKey,
+          (freq, e) -> MathUtils.clampToInt(e.getLongValue()), freq -> getFilterEjectMap(freq).object2LongEntrySet());
+    private final EfficientEjector<HashedItem> filterlessEjector = new EfficientEjector<>(Function.identity(),
+          (freq, type) -> MathUtils.clampToInt(freq.getStored(type)), QIOFrequency::getStoredTypes);
 
     public TileEntityQIOExporter(BlockPos pos, BlockState state) {
         super(MekanismBlocks.QIO_EXPORTER, pos, state);
@@ -161,8 +160,8 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
      * distribution based on a predetermined 'max eject attempt' constant to see if the ejection should take place. This makes sure we will eventually eject each item
      * type, but not attempt every item in the frequency each operation.
      * <p>
-     * Abstracting us away from the item map (using the type/count suppliers) allows us to interface directly with the entries of the QIO's item data map when running a
-     * filterless ejection, rather than recreating the whole map each ejection operation.
+     * Abstracting us away from the item map (using the type/count suppliers) allows us to interface directly with the QIO's stored types when running a filterless
+     * ejection, rather than recreating the whole map each ejection operation.
      * <p>
      * Complexity: O(k * s), where 'k' is our max eject attempts constant and 's' is the size of the inventory.
      *
@@ -174,9 +173,9 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
 
         private final Function<QIOFrequency, Collection<T>> ejectMapCalculator;
         private final Function<T, HashedItem> typeSupplier;
-        private final ToIntFunction<T> countSupplier;
+        private final ToIntBiFunction<QIOFrequency, T> countSupplier;
 
-        private EfficientEjector(Function<T, HashedItem> typeSupplier, ToIntFunction<T> countSupplier, Function<QIOFrequency, Collection<T>> ejectMapCalculator) {
+        private EfficientEjector(Function<T, HashedItem> typeSupplier, ToIntBiFunction<QIOFrequency, T> countSupplier, Function<QIOFrequency, Collection<T>> ejectMapCalculator) {
             this.typeSupplier = typeSupplier;
             this.countSupplier = countSupplier;
             this.ejectMapCalculator = ejectMapCalculator;
@@ -207,7 +206,7 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
                     continue;
                 }
                 HashedItem type = typeSupplier.apply(obj);
-                ItemStack origInsert = type.createStack(Math.min(maxCount - amountRemoved, countSupplier.applyAsInt(obj)));
+                ItemStack origInsert = type.createStack(Math.min(maxCount - amountRemoved, countSupplier.applyAsInt(freq, obj)));
                 ItemStack toInsert = origInsert.copy();
                 for (int i = 0; i < slots; i++) {
                     // Do insert, this will handle validating the item is valid for the inventory
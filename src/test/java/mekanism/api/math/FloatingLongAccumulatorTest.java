@@ -0,0 +1,45 @@
+package mekanism.api.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the implementation of FloatingLongAccumulator")
+class FloatingLongAccumulatorTest {
+
+    @Test
+    @DisplayName("Test that accumulating does not modify the values that were added")
+    void testDoesNotModifyInputs() {
+        FloatingLong a = FloatingLong.create(509_876, (short) 5_555);
+        FloatingLong b = FloatingLong.create(13_479, (short) 6_789);
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(a).add(b);
+        Assertions.assertEquals(FloatingLong.createConst(523_356.2344), accumulator.toFloatingLong());
+        Assertions.assertEquals(FloatingLong.createConst(509_876.5555), a);
+        Assertions.assertEquals(FloatingLong.createConst(13_479.6789), b);
+    }
+
+    @Test
+    @DisplayName("Test that subtraction clamps at zero")
+    void testSubtractClamping() {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(FloatingLong.create(5, (short) 1));
+        Assertions.assertTrue(accumulator.subtract(FloatingLong.create(5, (short) 2)).isZero());
+    }
+
+    @Test
+    @DisplayName("Test that division matches FloatingLong's rounding")
+    void testDivide() {
+        FloatingLong value = FloatingLong.create(1_000, (short) 1);
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(value);
+        Assertions.assertTrue(accumulator.divide(7).valueEquals(value.divide(7)));
+    }
+
+    @Test
+    @DisplayName("Test that the result does not change when the accumulator is reused")
+    void testReuse() {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(FloatingLong.create(10));
+        FloatingLong result = accumulator.toFloatingLong();
+        accumulator.setZero().add(FloatingLong.ONE);
+        Assertions.assertEquals(FloatingLong.createConst(10), result);
+        Assertions.assertTrue(accumulator.valueEquals(FloatingLong.ONE));
+    }
+}
@@ -0,0 +1,62 @@
+package mekanism.common.lib;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the implementation of UpdateTagDelta")
+class UpdateTagDeltaTest {
+
+    private static CompoundTag createTag(float scale, int amount, boolean includeConfig) {
+        CompoundTag tag = new CompoundTag();
+        tag.putFloat("scale", scale);
+        tag.putLong("volume", 1_234_567_890L);
+        CompoundTag fluid = new CompoundTag();
+        fluid.putString("FluidName", "minecraft:water");
+        fluid.putInt("Amount", amount);
+        tag.put("fluid", fluid);
+        if (includeConfig) {
+            ListTag config = new ListTag();
+            config.add(StringTag.valueOf("input"));
+            tag.put("config", config);
+        }
+        return tag;
+    }
+
+    private static CompoundTag roundTrip(CompoundTag previous, CompoundTag current) {
+        UpdateTagDelta delta = UpdateTagDelta.create(previous, current);
+        Assertions.assertNotNull(delta);
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        delta.write(buffer);
+        return UpdateTagDelta.read(buffer).apply(previous);
+    }
+
+    @Test
+    @DisplayName("Test that equal tags do not create a delta")
+    void testNoChanges() {
+        Assertions.assertNull(UpdateTagDelta.create(createTag(0.5F, 1_000, true), createTag(0.5F, 1_000, true)));
+    }
+
+    @Test
+    @DisplayName("Test applying changed, nested and removed fields")
+    void testRoundTrip() {
+        CompoundTag previous = createTag(0.5F, 1_000, true);
+        CompoundTag current = createTag(0.75F, 2_000, false);
+        Assertions.assertEquals(current, roundTrip(previous, current));
+        //Make sure applying the delta didn't modify the previous tag
+        Assertions.assertEquals(createTag(0.5F, 1_000, true), previous);
+    }
+
+    @Test
+    @DisplayName("Test adding fields that use the generic tag serialization")
+    void testAddedFields() {
+        CompoundTag previous = createTag(0.5F, 1_000, false);
+        CompoundTag current = createTag(0.5F, 1_000, true);
+        Assertions.assertEquals(current, roundTrip(previous, current));
+    }
+}
@@ -0,0 +1,101 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.NoSuchElementException;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test FloodFillFrontier implementation")
+class FloodFillFrontierTest {
+
+    @Test
+    @DisplayName("Test positions are only queued the first time they are visited")
+    void testVisit() {
+        FloodFillFrontier frontier = new FloodFillFrontier();
+        long pos = BlockPos.asLong(-5, -64, 17);
+        Assertions.assertFalse(frontier.isVisited(pos));
+        Assertions.assertTrue(frontier.visit(pos));
+        Assertions.assertFalse(frontier.visit(pos));
+        Assertions.assertTrue(frontier.isVisited(pos));
+        Assertions.assertFalse(frontier.isVisited(BlockPos.asLong(-5, -63, 17)));
+        Assertions.assertEquals(1, frontier.size());
+        Assertions.assertEquals(pos, frontier.dequeueLong());
+        Assertions.assertTrue(frontier.isEmpty());
+        //Make sure it is still marked as visited after leaving the queue
+        Assertions.assertFalse(frontier.visit(pos));
+        Assertions.assertEquals(1, frontier.visitedCount());
+        Assertions.assertThrows(NoSuchElementException.class, frontier::firstLong);
+    }
+
+    @Test
+    @DisplayName("Test positions are dequeued in the order they were added while the queue wraps and grows")
+    void testQueueOrder() {
+        FloodFillFrontier frontier = new FloodFillFrontier();
+        LongList expected = new LongArrayList();
+        int next = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 12; i++, next++) {
+                long pos = BlockPos.asLong(next, 0, 0);
+                frontier.visit(pos);
+                expected.add(pos);
+            }
+            for (int i = 0; i < 7; i++) {
+                Assertions.assertEquals(expected.removeLong(0), frontier.dequeueLong());
+            }
+        }
+        LongList queued = new LongArrayList();
+        frontier.forEachQueued(queued::add);
+        Assertions.assertEquals(expected, queued);
+    }
+
+    @Test
+    @DisplayName("Test the flood fill only starts over once the queue has drained")
+    void testRestartIfDrained() {
+        FloodFillFrontier frontier = new FloodFillFrontier();
+        long below = BlockPos.asLong(0, 63, 0);
+        long side = BlockPos.asLong(1, 63, 0);
+        frontier.visit(below);
+        frontier.visit(side);
+        Assertions.assertFalse(frontier.restartIfDrained());
+        Assertions.assertEquals(below, frontier.dequeueLong());
+        //Positions that have been visited don't get queued again while the fill is still going
+        Assertions.assertFalse(frontier.visit(below));
+        Assertions.assertFalse(frontier.restartIfDrained());
+        Assertions.assertEquals(side, frontier.dequeueLong());
+        //Once the queue drains, refilled positions can be visited and queued again
+        Assertions.assertTrue(frontier.restartIfDrained());
+        Assertions.assertEquals(0, frontier.visitedCount());
+        Assertions.assertTrue(frontier.visit(below));
+        Assertions.assertEquals(1, frontier.size());
+        Assertions.assertFalse(frontier.isVisited(side));
+    }
+
+    @Test
+    @DisplayName("Test iterating the visited positions across sections")
+    void testForEachVisited() {
+        FloodFillFrontier frontier = new FloodFillFrontier();
+        LongSet expected = new LongOpenHashSet();
+        for (int x = -20; x <= 20; x += 7) {
+            for (int y = -70; y <= 300; y += 53) {
+                for (int z = -33; z <= 33; z += 11) {
+                    long pos = BlockPos.asLong(x, y, z);
+                    frontier.markVisited(pos);
+                    expected.add(pos);
+                }
+            }
+        }
+        LongSet visited = new LongOpenHashSet();
+        frontier.forEachVisited(visited::add);
+        Assertions.assertEquals(expected, visited);
+        Assertions.assertEquals(expected.size(), frontier.visitedCount());
+        Assertions.assertTrue(frontier.isEmpty());
+        frontier.clear();
+        Assertions.assertEquals(0, frontier.visitedCount());
+        Assertions.assertFalse(frontier.isVisited(BlockPos.asLong(-20, -70, -33)));
+    }
+}
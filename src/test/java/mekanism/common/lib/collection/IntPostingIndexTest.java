@@ -0,0 +1,54 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.ints.IntSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test IntPostingIndex implementation")
+class IntPostingIndexTest {
+
+    @Test
+    @DisplayName("Test adding ids reports when new keys are added")
+    void testAdd() {
+        IntPostingIndex<String> index = new IntPostingIndex<>();
+        Assertions.assertTrue(index.addAll(0, List.of("a", "b")));
+        Assertions.assertTrue(index.addAll(1, List.of("b", "c")));
+        Assertions.assertFalse(index.addAll(2, List.of("a", "c")));
+        Assertions.assertFalse(index.addAll(3, List.of()));
+        Assertions.assertFalse(index.add(3, "a"));
+        Assertions.assertTrue(index.add(40, "d"));
+        Assertions.assertEquals(Set.of("a", "b", "c", "d"), index.keySet());
+        Assertions.assertEquals(IntSet.of(0, 2, 3), index.get("a"));
+        Assertions.assertEquals(IntSet.of(0, 1), index.get("b"));
+        Assertions.assertEquals(IntSet.of(40), index.get("d"));
+        Assertions.assertTrue(index.get("e").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test removing ids removes them from all their keys")
+    void testRemove() {
+        IntPostingIndex<String> index = new IntPostingIndex<>();
+        index.addAll(0, List.of("a", "b"));
+        index.addAll(1, List.of("b", "c"));
+        //Only the keys that have no ids left get removed
+        Assertions.assertTrue(index.remove(0));
+        Assertions.assertEquals(Set.of("b", "c"), index.keySet());
+        Assertions.assertEquals(IntSet.of(1), index.get("b"));
+        index.add(2, "b");
+        Assertions.assertFalse(index.remove(2));
+        //Ids that aren't in the index can't be removed
+        Assertions.assertFalse(index.remove(0));
+        Assertions.assertFalse(index.remove(5));
+        Assertions.assertTrue(index.remove(1));
+        Assertions.assertTrue(index.keySet().isEmpty());
+        //Removed ids can be reused
+        Assertions.assertTrue(index.add(0, "c"));
+        Assertions.assertEquals(IntSet.of(0), index.get("c"));
+        index.clear();
+        Assertions.assertTrue(index.keySet().isEmpty());
+        Assertions.assertFalse(index.remove(0));
+    }
+}
@@ -0,0 +1,60 @@
+package mekanism.common.lib.collection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test LongMinHeap implementation")
+class LongMinHeapTest {
+
+    @Test
+    @DisplayName("Test elements are dequeued in priority order")
+    void testOrdering() {
+        LongMinHeap heap = new LongMinHeap(2);
+        heap.add(30, 3);
+        heap.add(10, 1);
+        heap.add(50, 5);
+        heap.add(20, 2);
+        heap.add(40, 4);
+        Assertions.assertEquals(5, heap.size());
+        Assertions.assertEquals(1, heap.firstPriority());
+        for (long expected = 10; expected <= 50; expected += 10) {
+            Assertions.assertEquals(expected, heap.dequeueLong());
+        }
+        Assertions.assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test random priorities are dequeued sorted")
+    void testRandomPriorities() {
+        Random random = new Random(12345);
+        LongMinHeap heap = new LongMinHeap();
+        double[] priorities = new double[1_000];
+        for (int i = 0; i < priorities.length; i++) {
+            priorities[i] = random.nextDouble();
+            heap.add(i, priorities[i]);
+        }
+        Arrays.sort(priorities);
+        for (double priority : priorities) {
+            Assertions.assertEquals(priority, heap.firstPriority());
+            heap.dequeueLong();
+        }
+        Assertions.assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test clearing the heap")
+    void testClear() {
+        LongMinHeap heap = new LongMinHeap();
+        heap.add(1, 1);
+        heap.add(2, 2);
+        heap.clear();
+        Assertions.assertTrue(heap.isEmpty());
+        Assertions.assertThrows(NoSuchElementException.class, heap::dequeueLong);
+        heap.add(3, 3);
+        Assertions.assertEquals(3, heap.dequeueLong());
+    }
+}
@@ -0,0 +1,54 @@
+package mekanism.common.lib.distribution;
+
+import mekanism.common.lib.distribution.handler.InfiniteIntegerHandler;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+import mekanism.common.lib.distribution.handler.SpecificAmountIntegerHandler;
+import mekanism.common.lib.distribution.target.IntegerDistributor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test Distribution via LongDistributor")
+class LongDistributorTest {
+
+    @Test
+    @DisplayName("Test sending to non divisible amounts")
+    void testRemainderDistribution() {
+        IntegerDistributor distributor = new IntegerDistributor();
+        for (int i = 0; i < 7; i++) {
+            distributor.addHandler(new InfiniteIntegerHandler());
+        }
+        Assertions.assertEquals(10, distributor.distribute(10, 10));
+        Assertions.assertEquals(0, distributor.getHandlerCount());
+    }
+
+    @Test
+    @DisplayName("Test that what small handlers don't need gets split between the larger ones")
+    void testWaterFill() {
+        IntegerDistributor distributor = new IntegerDistributor();
+        IntegerHandler small = new SpecificAmountIntegerHandler(1);
+        IntegerHandler medium = new SpecificAmountIntegerHandler(4);
+        IntegerHandler large = new InfiniteIntegerHandler();
+        IntegerHandler otherLarge = new InfiniteIntegerHandler();
+        //Add them out of order to make sure the order they are added in doesn't matter
+        distributor.addHandler(large);
+        distributor.addHandler(medium);
+        distributor.addHandler(otherLarge);
+        distributor.addHandler(small);
+        Assertions.assertEquals(20, distributor.distribute(20, 20));
+        Assertions.assertEquals(1, small.getAccepted());
+        Assertions.assertEquals(4, medium.getAccepted());
+        Assertions.assertEquals(15, large.getAccepted() + otherLarge.getAccepted());
+        Assertions.assertTrue(Math.abs(large.getAccepted() - otherLarge.getAccepted()) <= 1);
+    }
+
+    @Test
+    @DisplayName("Test that we never send more than we have when the handlers can't accept it all")
+    void testLimitedHandlers() {
+        IntegerDistributor distributor = new IntegerDistributor();
+        distributor.addHandler(new SpecificAmountIntegerHandler(3));
+        distributor.addHandler(new SpecificAmountIntegerHandler(0));
+        distributor.addHandler(new SpecificAmountIntegerHandler(2));
+        Assertions.assertEquals(5, distributor.distribute(10, 10));
+    }
+}
@@ -0,0 +1,17 @@
+package mekanism.common.lib.distribution.target;
+
+import mekanism.common.lib.distribution.LongDistributor;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+
+public final class IntegerDistributor extends LongDistributor<IntegerHandler, Integer> {
+
+    @Override
+    protected long simulate(IntegerHandler integerHandler, Integer offered) {
+        return integerHandler.perform(offered, true);
+    }
+
+    @Override
+    protected long accept(IntegerHandler integerHandler, Integer offered, long amount) {
+        return integerHandler.perform((int) amount, false);
+    }
+}
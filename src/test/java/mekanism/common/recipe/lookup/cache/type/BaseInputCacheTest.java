@@ -0,0 +1,128 @@
+package mekanism.common.recipe.lookup.cache.type;
+
+import java.util.Set;
+import java.util.function.Predicate;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.ingredients.InputIngredient;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.RecipeSerializer;
+import net.minecraft.world.item.crafting.RecipeType;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test indexing of complex recipes in BaseInputCache")
+class BaseInputCacheTest {
+
+    @Test
+    @DisplayName("Test indexed complex recipes are only tested against the inputs they may contain")
+    void testComplexIndexing() {
+        TestInputCache cache = new TestInputCache();
+        TestRecipe recipe = new TestRecipe("indexed", Set.of("stone", "dirt"), "stone"::equals);
+        Assertions.assertTrue(cache.mapComplex(recipe));
+
+        //Complex recipes don't get added to the basic cache
+        Assertions.assertFalse(cache.contains("stone"));
+        Assertions.assertTrue(cache.containsComplex("stone", r -> r.test("stone")));
+        Assertions.assertSame(recipe, cache.findFirstComplexRecipe("stone", r -> r.test("stone")));
+        Assertions.assertFalse(cache.containsComplex("dirt", r -> r.test("dirt")));
+        //Make sure the recipe is not even a candidate for inputs it can't contain
+        Assertions.assertFalse(cache.containsComplex("sand", r -> true));
+        Assertions.assertNull(cache.findFirstComplexRecipe("sand", r -> true));
+
+        cache.clear();
+        Assertions.assertFalse(cache.containsComplex("stone", r -> true));
+    }
+
+    @Test
+    @DisplayName("Test indexed complex recipes are checked before unindexed complex recipes")
+    void testUnindexedFallback() {
+        TestInputCache cache = new TestInputCache();
+        TestRecipe indexed = new TestRecipe("indexed", Set.of("stone"), "stone"::equals);
+        TestRecipe unindexed = new TestRecipe("unindexed", null, input -> input.startsWith("s"));
+        //Map the unindexed one first so that we know the order isn't just based on insertion order
+        Assertions.assertTrue(cache.mapComplex(unindexed));
+        Assertions.assertTrue(cache.mapComplex(indexed));
+
+        Assertions.assertSame(indexed, cache.findFirstComplexRecipe("stone", r -> r.test("stone")));
+        //When the indexed recipe doesn't match, we fall back to the unindexed one
+        Assertions.assertSame(unindexed, cache.findFirstComplexRecipe("stone", r -> r != indexed && r.test("stone")));
+        //Unindexed recipes are candidates for every input, even ones no complex recipes are indexed by
+        Assertions.assertSame(unindexed, cache.findFirstComplexRecipe("sand", r -> r.test("sand")));
+        Assertions.assertTrue(cache.containsComplex("sand", r -> r.test("sand")));
+        Assertions.assertFalse(cache.containsComplex("dirt", r -> r.test("dirt")));
+    }
+
+    /**
+     * Recipe with a complex ingredient that may only contain the given candidates, or any input if there are no candidates.
+     */
+    private static class TestRecipe extends MekanismRecipe {
+
+        @Nullable
+        private final Set<String> candidates;
+        private final Predicate<String> matcher;
+
+        private TestRecipe(String name, @Nullable Set<String> candidates, Predicate<String> matcher) {
+            super(new ResourceLocation("mekanism", name));
+            this.candidates = candidates;
+            this.matcher = matcher;
+        }
+
+        private boolean test(String input) {
+            return matcher.test(input);
+        }
+
+        @Override
+        public void write(FriendlyByteBuf buffer) {
+        }
+
+        @Override
+        public boolean isIncomplete() {
+            return false;
+        }
+
+        @Override
+        public RecipeSerializer<?> getSerializer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public RecipeType<?> getType() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Input cache keyed directly by string inputs, so that testing it doesn't require bootstrapping any registries.
+     */
+    private static class TestInputCache extends BaseInputCache<String, String, InputIngredient<String>, TestRecipe> {
+
+        private boolean mapComplex(TestRecipe recipe) {
+            if (recipe.candidates == null) {
+                addUnindexedComplexRecipe(recipe);
+            } else {
+                for (String candidate : recipe.candidates) {
+                    addComplexInputCache(candidate, recipe);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean mapInputs(TestRecipe recipe, InputIngredient<String> inputIngredient) {
+            return mapComplex(recipe);
+        }
+
+        @Override
+        protected String createKey(String input) {
+            return input;
+        }
+
+        @Override
+        public boolean isEmpty(String input) {
+            return input.isEmpty();
+        }
+    }
+}